@@ -7,7 +7,7 @@ import io.kestra.core.models.annotations.PluginProperty;
 public interface BatchGenerateInterface extends GenerateInterface{
 
     boolean DEFAULT_STORE = false;
-    int DEFAULT_BATCH_SIZE = 1;
+    long DEFAULT_BATCH_SIZE = 1L;
     
     @Schema(
         title = "Store generated data",
@@ -21,6 +21,6 @@ public interface BatchGenerateInterface extends GenerateInterface{
         description = "Number of items to generate when storing data; only used if `store` is true. Defaults to 1."
     )
     @PluginProperty(group = "execution")
-    Property<Integer> getBatchSize();
+    Property<Long> getBatchSize();
 
 }
@@ -4,8 +4,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.net.URI;
+import java.util.List;
 import io.kestra.core.models.annotations.PluginProperty;
 
 @AllArgsConstructor
@@ -15,17 +17,24 @@ public class Data implements io.kestra.core.models.tasks.Output {
 
     @Schema(
         title = "Generated size (bytes)",
-        description = "Total size in bytes of the returned value or stored Ion file."
+        description = "Total size in bytes of the returned value or stored file, before compression."
     )
     @PluginProperty(group = "advanced")
     private Long size;
 
+    @Schema(
+        title = "Compressed size (bytes)",
+        description = "Total size in bytes of the stored file after compression; null when `compression` is not set."
+    )
+    @PluginProperty(group = "advanced")
+    private Long compressedSize;
+
     @Schema(
         title = "Items generated",
         description = "Number of records produced by the generator."
     )
     @PluginProperty(group = "execution")
-    private Integer count;
+    private Long count;
 
     @Schema(
         title = "Generated value",
@@ -36,8 +45,45 @@ public class Data implements io.kestra.core.models.tasks.Output {
 
     @Schema(
         title = "Stored file URI",
-        description = "URI in internal storage when `store` is true; null for inline outputs."
+        description = "URI in internal storage when `store` is true; null for inline outputs or when data is split into several `chunks`."
     )
     @PluginProperty(group = "advanced")
     private final URI uri;
+
+    @Schema(
+        title = "Stored files",
+        description = "Every file written to internal storage when `store` is true, in generation order; more than one when `maxRecordsPerFile` or `maxBytesPerFile` is reached."
+    )
+    @PluginProperty(group = "advanced")
+    private final List<Chunk> chunks;
+
+    @Builder
+    @Jacksonized
+    @Getter
+    public static class Chunk {
+
+        @Schema(
+            title = "File URI",
+            description = "URI of the file in internal storage."
+        )
+        private final URI uri;
+
+        @Schema(
+            title = "Items in file",
+            description = "Number of records written to the file."
+        )
+        private final long count;
+
+        @Schema(
+            title = "File size (bytes)",
+            description = "Size in bytes of the file, before compression."
+        )
+        private final Long size;
+
+        @Schema(
+            title = "Compressed file size (bytes)",
+            description = "Size in bytes of the stored file after compression; null when `compression` is not set."
+        )
+        private final Long compressedSize;
+    }
 }
@@ -2,23 +2,28 @@ package io.kestra.plugin.datagen.core;
 
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.models.tasks.Task;
 import io.kestra.core.runners.RunContext;
-import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.plugin.datagen.BatchGenerateInterface;
 import io.kestra.plugin.datagen.Data;
 import io.kestra.plugin.datagen.model.DataGenerator;
+import io.kestra.plugin.datagen.services.Checkpointer;
+import io.kestra.plugin.datagen.services.ChunkedWriter;
+import io.kestra.plugin.datagen.services.ChunkedWriterOptions;
+import io.kestra.plugin.datagen.services.ParallelGenerator;
 import io.kestra.plugin.datagen.utils.DataUtils;
+import io.kestra.plugin.datagen.writers.Compression;
+import io.kestra.plugin.datagen.writers.Format;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
-import java.io.BufferedOutputStream;
-import java.io.File;
-import java.io.FileOutputStream;
-import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import io.kestra.core.models.annotations.PluginProperty;
 
 @Plugin(
@@ -122,7 +127,7 @@ import io.kestra.core.models.annotations.PluginProperty;
 )
 @Schema(
     title = "Generate synthetic data",
-    description = "Runs the configured generator (e.g., [Datafaker](https://www.datafaker.net/documentation/expressions/)) once (inline) or for a batch when `store` is true. When stored, results are written as Ion lines to internal storage; defaults are `store=false` and `batchSize=1`."
+    description = "Runs the configured generator (e.g., [Datafaker](https://www.datafaker.net/documentation/expressions/)) once (inline) or for a batch when `store` is true. When stored, results are streamed to internal storage as Ion lines or in the configured `format`. Stored batches stop at `batchSize`, `maxDuration`, or `targetBytes`, whichever comes first; defaults are `store=false` and `batchSize=1`."
 )
 @SuperBuilder
 @NoArgsConstructor
@@ -131,6 +136,11 @@ import io.kestra.core.models.annotations.PluginProperty;
 @Getter
 public class Generate extends Task implements RunnableTask<Data>, BatchGenerateInterface {
 
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private static final long DEFAULT_CHECKPOINT_MIN_BYTES = 1024 * 1024;
+    private static final int COLUMN_BATCH_SIZE = 1024;
+    private static final String FALLBACKS_METRIC = "faker.fallbacks";
+
     @PluginProperty(group = "main")
     private DataGenerator<?> generator;
 
@@ -140,48 +150,267 @@ public class Generate extends Task implements RunnableTask<Data>, BatchGenerateI
 
     @Builder.Default
     @PluginProperty(group = "advanced")
-    private Property<Integer> batchSize = Property.ofValue(DEFAULT_BATCH_SIZE);
+    private Property<Long> batchSize = Property.ofValue(DEFAULT_BATCH_SIZE);
+
+    @Schema(
+        title = "Maximum generation duration",
+        description = "Stops generating once this duration has elapsed when `store` is true, even if `batchSize` is not reached; set a large `batchSize` to only bound generation by `maxDuration` and `targetBytes`."
+    )
+    @PluginProperty(group = "execution")
+    private Property<Duration> maxDuration;
+
+    @Schema(
+        title = "Target size (bytes)",
+        description = "Stops generating once this many bytes (before compression) are stored when `store` is true, even if `batchSize` is not reached. The size is measured every 256 records, so that the encoder is not flushed for each record, and may exceed the target by up to that many records; `AVRO` and `PARQUET` only account for complete blocks."
+    )
+    @PluginProperty(group = "execution")
+    private Property<Long> targetBytes;
+
+    @Schema(
+        title = "Index of the first record",
+        description = "Index of the first generated record in the dataset. With a seeded generator, any slice of a dataset can be regenerated by setting `offset` without generating the records before it. Not supported with unique fields. Defaults to 0."
+    )
+    @PluginProperty(group = "advanced")
+    private Property<Long> offset;
+
+    @Schema(
+        title = "Parallelism",
+        description = "Number of workers generating records concurrently when `store` is true. Each worker initializes its own generator and fills its own shard of the batch. Defaults to 1."
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> parallelism = Property.ofValue(1);
+
+    @Schema(
+        title = "Preserve record order",
+        description = "Whether shards are merged in generation order when `parallelism` is greater than 1; set to false to write records as soon as any worker produces them. Defaults to true."
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Boolean> preserveOrder = Property.ofValue(true);
+
+    @Schema(
+        title = "Output format",
+        description = "Format of the stored file when `store` is true: `ION` (default), `JSONL`, `CSV`, `AVRO`, or `PARQUET`. Columnar formats derive their schema from the generator template (e.g. the `JsonObjectGenerator` value), or from the first record otherwise."
+    )
+    @Builder.Default
+    @PluginProperty(group = "destination")
+    private Property<Format> format = Property.ofValue(Format.ION);
+
+    @Schema(
+        title = "Compression",
+        description = "Codec applied while writing the stored file: `NONE` (default), `GZIP`, `ZSTD`, or `LZ4`."
+    )
+    @Builder.Default
+    @PluginProperty(group = "destination")
+    private Property<Compression> compression = Property.ofValue(Compression.NONE);
+
+    @Schema(
+        title = "Compression level",
+        description = "Codec-specific compression level (e.g. 1-9 for `GZIP`, 1-22 for `ZSTD`, 1-17 for `LZ4` high compression); the codec default is used when not set."
+    )
+    @PluginProperty(group = "advanced")
+    private Property<Integer> compressionLevel;
+
+    @Schema(
+        title = "Buffer size",
+        description = "Size in bytes of the write and compression buffers, for all codecs; `LZ4` uses the nearest supported block size among 64 KiB, 256 KiB, 1 MiB and 4 MiB. Defaults to 64 KiB."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> bufferSize = Property.ofValue(DEFAULT_BUFFER_SIZE);
+
+    @Schema(
+        title = "Maximum records per file",
+        description = "Rolls over to a new stored file once this number of records is written; each completed file is uploaded while generation continues. Unlimited when not set."
+    )
+    @PluginProperty(group = "destination")
+    private Property<Long> maxRecordsPerFile;
+
+    @Schema(
+        title = "Maximum bytes per file",
+        description = "Rolls over to a new stored file once this many bytes (before compression) are written, measured every 256 records; each completed file is uploaded while generation continues. Unlimited when not set."
+    )
+    @PluginProperty(group = "destination")
+    private Property<Long> maxBytesPerFile;
+
+    @Schema(
+        title = "Stream to internal storage",
+        description = "When true, stored files are piped to internal storage while they are being written instead of being written to a local temporary file first, halving local disk I/O. Defaults to false."
+    )
+    @Builder.Default
+    @PluginProperty(group = "destination")
+    private Property<Boolean> streamToStorage = Property.ofValue(false);
+
+    @Schema(
+        title = "Checkpoint interval",
+        description = "Enables checkpoints when `store` is true: files already uploaded to internal storage are saved to the state store at least this often, closing the current file early and waiting for its upload if needed once it holds `checkpointMinBytes`, so that a retry of the same execution resumes from the last checkpoint. Use a seeded generator for a retry to produce the exact same records; with `preserveOrder` false, a retry resumes the record count but not the exact records. `maxDuration` applies to each attempt. Not supported with unique fields."
+    )
+    @PluginProperty(group = "execution")
+    private Property<Duration> checkpointInterval;
+
+    @Schema(
+        title = "Minimum bytes per checkpointed file",
+        description = "Minimum size in bytes (before compression) of a file closed early for a checkpoint, measured every 256 records; smaller files are only closed when full, which delays the checkpoint. Lower it for more frequent checkpoints at the cost of more, smaller files. Defaults to 1 MiB."
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Long> checkpointMinBytes = Property.ofValue(DEFAULT_CHECKPOINT_MIN_BYTES);
 
     @Override
     public Data run(RunContext runContext) throws Exception {
 
         Boolean store = runContext.render(this.store).as(Boolean.class).orElse(DEFAULT_STORE);
-        int batchSize = runContext.render(this.batchSize).as(Integer.class).orElse(DEFAULT_BATCH_SIZE);
 
         this.generator.init(runContext);
+        long offset = runContext.render(this.offset).as(Long.class).orElse(0L);
 
         if (store) {
-            File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
-            try (
-                BufferedOutputStream output = new BufferedOutputStream(new FileOutputStream(tempFile));
-            ) {
-                long totalSize = 0L;
-                for (int i = 1; i <= batchSize; i++) {
-                    Object value = generator.produce();
-                    if (value != null) {
-                        byte[] bytes = JacksonMapper.ofIon().writeValueAsBytes(value);
-                        output.write(bytes);
-                        output.write("\n".getBytes());
-                        totalSize += bytes.length;
+            Duration maxDuration = runContext.render(this.maxDuration).as(Duration.class).orElse(null);
+            Long targetBytes = runContext.render(this.targetBytes).as(Long.class).orElse(null);
+            long batchSize = runContext.render(this.batchSize).as(Long.class).orElse(DEFAULT_BATCH_SIZE);
+            Limits limits = new Limits(
+                batchSize,
+                maxDuration != null ? System.nanoTime() + maxDuration.toNanos() : null,
+                targetBytes
+            );
+
+            int parallelism = Math.max(1, runContext.render(this.parallelism).as(Integer.class).orElse(1));
+            Format format = runContext.render(this.format).as(Format.class).orElse(Format.ION);
+            Compression compression = runContext.render(this.compression).as(Compression.class).orElse(Compression.NONE);
+            Integer compressionLevel = runContext.render(this.compressionLevel).as(Integer.class).orElse(null);
+            int bufferSize = runContext.render(this.bufferSize).as(Integer.class).orElse(DEFAULT_BUFFER_SIZE);
+
+            ChunkedWriterOptions options = new ChunkedWriterOptions(
+                format,
+                compression,
+                compressionLevel,
+                bufferSize,
+                runContext.render(this.maxRecordsPerFile).as(Long.class).orElse(ChunkedWriterOptions.UNLIMITED),
+                runContext.render(this.maxBytesPerFile).as(Long.class).orElse(ChunkedWriterOptions.UNLIMITED),
+                runContext.render(this.streamToStorage).as(Boolean.class).orElse(false)
+            );
+
+            Duration checkpointInterval = runContext.render(this.checkpointInterval).as(Duration.class).orElse(null);
+            Checkpointer checkpointer = checkpointInterval != null
+                ? new Checkpointer(
+                    runContext,
+                    this.id,
+                    runContext.render("{{ execution.id }}"),
+                    checkpointInterval,
+                    runContext.render(this.checkpointMinBytes).as(Long.class).orElse(DEFAULT_CHECKPOINT_MIN_BYTES)
+                )
+                : null;
+
+            // unique values are tracked in memory by the generator, from the first record it produces
+            if (generator.hasUniqueValues()) {
+                if (checkpointInterval != null) {
+                    throw new IllegalArgumentException("The generator has unique fields, which cannot be used with a 'checkpointInterval': values generated before a checkpoint are unknown to a retry.");
+                }
+                if (offset > 0) {
+                    throw new IllegalArgumentException("The generator has unique fields, which cannot be used with an 'offset': values of the records before the offset are unknown.");
+                }
+                if (parallelism > 1 && runContext.render(generator.getSeed()).as(Long.class).isPresent()) {
+                    throw new IllegalArgumentException("The generator has unique fields, which cannot be used with a 'seed' and a 'parallelism' greater than 1: regenerated values would depend on the order in which workers produce records.");
+                }
+            }
+
+            List<DataGenerator<?>> generators = new ArrayList<>(parallelism);
+            generators.add(this.generator);
+            try (ChunkedWriter writer = new ChunkedWriter(runContext, options, generator.shape().orElse(null))) {
+                long produced = 0L;
+                if (checkpointer != null) {
+                    produced = checkpointer.restore(writer).map(Checkpointer.Checkpoint::count).orElse(0L);
+                }
+                if (parallelism > 1) {
+                    if (generator.reusesRecords()) {
+                        throw new IllegalArgumentException("The generator reuses its records, which requires a 'parallelism' of 1.");
+                    }
+                    boolean preserveOrder = runContext.render(this.preserveOrder).as(Boolean.class).orElse(true);
+                    for (int i = 1; i < parallelism; i++) {
+                        DataGenerator<?> worker = this.generator.copy();
+                        worker.initCopy(runContext, this.generator);
+                        generators.add(worker);
+                    }
+                    try (ParallelGenerator parallelGenerator = new ParallelGenerator(generators, offset + produced, batchSize - produced, preserveOrder)) {
+                        parallelGenerator.start();
+                        List<Object> records;
+                        while (!limits.isReached(produced, writer) && (records = parallelGenerator.next()) != null) {
+                            for (int i = 0; i < records.size() && !limits.isReached(produced, writer); i++) {
+                                writer.write(records.get(i));
+                                produced++;
+                                if (checkpointer != null) {
+                                    checkpointer.update(writer);
+                                }
+                            }
+                        }
+                    }
+                } else if (generator.supportsColumnBatches() && targetBytes == null) {
+                    // target sizes are checked per record, so they require producing records one by one
+                    while (!limits.isReached(produced, writer)) {
+                        int size = (int) Math.min(COLUMN_BATCH_SIZE, batchSize - produced);
+                        writer.write(generator.produceBatch(offset + produced, size));
+                        produced += size;
+                        if (checkpointer != null) {
+                            checkpointer.update(writer);
+                        }
+                    }
+                } else {
+                    while (!limits.isReached(produced, writer)) {
+                        writer.write(generator.produce(offset + produced));
+                        produced++;
+                        if (checkpointer != null) {
+                            checkpointer.update(writer);
+                        }
                     }
                 }
-                output.flush();
-                URI uri = runContext.storage().putFile(tempFile);
+
+                List<Data.Chunk> chunks = writer.complete();
+                if (checkpointer != null) {
+                    checkpointer.clear();
+                }
+                reportFallbacks(runContext, generators);
                 return Data
                     .builder()
-                    .size(totalSize)
-                    .count(batchSize)
-                    .uri(uri)
+                    .size(writer.getSize())
+                    .compressedSize(compression != Compression.NONE ? writer.getCompressedSize() : null)
+                    .count(writer.getCount())
+                    .uri(chunks.size() == 1 ? chunks.get(0).getUri() : null)
+                    .chunks(chunks)
                     .build();
             }
         } else {
-            Object value = generator.produce();
+            Object value = generator.produce(offset);
+            reportFallbacks(runContext, List.of(generator));
             return Data
                 .builder()
                 .size(DataUtils.computeSize(value, runContext.logger()))
-                .count(1)
+                .count(1L)
                 .value(value)
                 .build();
         }
     }
+
+    private static void reportFallbacks(final RunContext runContext, final List<DataGenerator<?>> generators) {
+        long fallbacks = generators.stream().mapToLong(DataGenerator::fallbacks).sum();
+        if (fallbacks > 0) {
+            runContext.metric(Counter.of(FALLBACKS_METRIC, fallbacks));
+        }
+    }
+
+    /**
+     * Conditions stopping the generation of stored records, whichever is reached first.
+     *
+     * @param batchSize      the number of records to produce.
+     * @param deadlineNanos  the {@link System#nanoTime()} deadline, or {@code null}.
+     * @param targetBytes    the number of bytes to store, or {@code null}.
+     */
+    private record Limits(long batchSize, Long deadlineNanos, Long targetBytes) {
+
+        boolean isReached(long produced, ChunkedWriter writer) {
+            return produced >= batchSize
+                || (deadlineNanos != null && System.nanoTime() - deadlineNanos >= 0)
+                || (targetBytes != null && writer.getSize() >= targetBytes);
+        }
+    }
 }
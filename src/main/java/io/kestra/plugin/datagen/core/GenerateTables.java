@@ -0,0 +1,392 @@
+package io.kestra.plugin.datagen.core;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.models.tasks.Task;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.datagen.Data;
+import io.kestra.plugin.datagen.internal.Seeds;
+import io.kestra.plugin.datagen.internal.SplitMix64Random;
+import io.kestra.plugin.datagen.model.DataGenerator;
+import io.kestra.plugin.datagen.services.ChunkedWriter;
+import io.kestra.plugin.datagen.services.ChunkedWriterOptions;
+import io.kestra.plugin.datagen.writers.Compression;
+import io.kestra.plugin.datagen.writers.Format;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import lombok.extern.jackson.Jacksonized;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            code = """
+            id: datagen_shop
+            namespace: com.example.datagen
+
+            tasks:
+              - id: datagen
+                type: io.kestra.plugin.datagen.core.GenerateTables
+                format: PARQUET
+                seed: 42
+                tables:
+                  - name: customers
+                    count: 10000
+                    generator:
+                      type: io.kestra.plugin.datagen.generators.JsonObjectGenerator
+                      value:
+                        name: "#{name.fullName}"
+                        email: "#{internet.emailAddress}"
+                  - name: orders
+                    parent: customers
+                    minChildren: 0
+                    maxChildren: 5
+                    generator:
+                      type: io.kestra.plugin.datagen.generators.JsonObjectGenerator
+                      value:
+                        status: "#{options.option 'NEW','PAID','SHIPPED'}"
+                  - name: line_items
+                    parent: orders
+                    minChildren: 1
+                    maxChildren: 10
+                    generator:
+                      type: io.kestra.plugin.datagen.generators.TypedObjectGenerator
+                      fields:
+                        - name: quantity
+                          type: INT
+                          min: 1
+                          max: 5
+            """
+        )
+    }
+)
+@Schema(
+    title = "Generate related tables",
+    description = "Generates several tables in one run, e.g. customers, orders and line items, with valid foreign keys between them. Each record gets a sequential key starting at 1, and records of a child table get the key of their parent record. Tables are generated depth-first, each parent record being directly followed by its children, so that only one counter per table is kept in memory whatever the number of records. Each table is stored in its own file(s) in the configured `format`."
+)
+@SuperBuilder
+@NoArgsConstructor
+@ToString
+@EqualsAndHashCode
+@Getter
+public class GenerateTables extends Task implements RunnableTask<GenerateTables.Output> {
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private static final String DEFAULT_KEY_FIELD = "id";
+
+    @Schema(
+        title = "Tables",
+        description = "Tables to generate; a child table must be declared after its `parent`."
+    )
+    @NotEmpty
+    @PluginProperty(group = "main")
+    private List<Table> tables;
+
+    @Schema(
+        title = "Random seed",
+        description = "Makes the number of children of each parent record reproducible; use seeded generators to make the records themselves reproducible. Defaults to a non-reproducible random source."
+    )
+    @PluginProperty(group = "advanced")
+    private Property<Long> seed;
+
+    @Schema(
+        title = "Output format",
+        description = "Format of the stored files: `ION` (default), `JSONL`, `CSV`, `AVRO`, or `PARQUET`."
+    )
+    @Builder.Default
+    @PluginProperty(group = "destination")
+    private Property<Format> format = Property.ofValue(Format.ION);
+
+    @Schema(
+        title = "Compression",
+        description = "Codec applied while writing the stored files: `NONE` (default), `GZIP`, `ZSTD`, or `LZ4`."
+    )
+    @Builder.Default
+    @PluginProperty(group = "destination")
+    private Property<Compression> compression = Property.ofValue(Compression.NONE);
+
+    @Schema(
+        title = "Maximum records per file",
+        description = "Rolls over to a new stored file for a table once this number of records is written. Unlimited when not set."
+    )
+    @PluginProperty(group = "destination")
+    private Property<Long> maxRecordsPerFile;
+
+    @Schema(
+        title = "Buffer size",
+        description = "Size in bytes of the write and compression buffers of each table, for all codecs; `LZ4` uses the nearest supported block size among 64 KiB, 256 KiB, 1 MiB and 4 MiB. Defaults to 64 KiB."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> bufferSize = Property.ofValue(DEFAULT_BUFFER_SIZE);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        Long rSeed = runContext.render(this.seed).as(Long.class).orElse(null);
+        ChunkedWriterOptions options = new ChunkedWriterOptions(
+            runContext.render(this.format).as(Format.class).orElse(Format.ION),
+            runContext.render(this.compression).as(Compression.class).orElse(Compression.NONE),
+            null,
+            runContext.render(this.bufferSize).as(Integer.class).orElse(DEFAULT_BUFFER_SIZE),
+            runContext.render(this.maxRecordsPerFile).as(Long.class).orElse(ChunkedWriterOptions.UNLIMITED),
+            ChunkedWriterOptions.UNLIMITED,
+            false
+        );
+
+        List<TableState> states = new ArrayList<>(tables.size());
+        Map<String, TableState> byName = new HashMap<>();
+        try {
+            for (Table table : tables) {
+                TableState parent = null;
+                if (table.getParent() != null) {
+                    parent = byName.get(table.getParent());
+                    if (parent == null) {
+                        throw new IllegalArgumentException("Invalid table '%s': parent table '%s' must be declared before it.".formatted(table.getName(), table.getParent()));
+                    }
+                }
+                if (byName.containsKey(table.getName())) {
+                    throw new IllegalArgumentException("Duplicate table name: '%s'.".formatted(table.getName()));
+                }
+                TableState state = TableState.create(runContext, table, parent, states.size(), rSeed, options);
+                states.add(state);
+                byName.put(table.getName(), state);
+                if (parent != null) {
+                    parent.children.add(state);
+                }
+            }
+
+            for (TableState root : states) {
+                if (root.parent == null) {
+                    for (long key = 1; key <= root.count; key++) {
+                        write(root, key, 0L);
+                    }
+                }
+            }
+
+            Map<String, Data> outputs = LinkedHashMap.newLinkedHashMap(states.size());
+            for (TableState state : states) {
+                List<Data.Chunk> chunks = state.writer.complete();
+                outputs.put(state.table.getName(), Data
+                    .builder()
+                    .size(state.writer.getSize())
+                    .compressedSize(options.compression() != Compression.NONE ? state.writer.getCompressedSize() : null)
+                    .count(state.writer.getCount())
+                    .uri(chunks.size() == 1 ? chunks.get(0).getUri() : null)
+                    .chunks(chunks)
+                    .build()
+                );
+            }
+            return Output.builder().tables(outputs).build();
+        } finally {
+            for (TableState state : states) {
+                state.writer.close();
+            }
+        }
+    }
+
+    // depth-first, so that the state of a table is its last key whatever the number of records
+    private static void write(final TableState state, final long key, final long parentKey) throws IOException {
+        state.writer.write(state.record(key, parentKey));
+        for (TableState child : state.children) {
+            int count = child.fanOut(key);
+            for (int i = 0; i < count; i++) {
+                write(child, ++child.lastKey, key);
+            }
+        }
+    }
+
+    /**
+     * The generation state of a table.
+     */
+    private static final class TableState {
+
+        private final Table table;
+        private final TableState parent;
+        private final DataGenerator<?> generator;
+        private final ChunkedWriter writer;
+        private final String keyField;
+        private final String foreignKeyField;
+        private final long count;
+        private final int minChildren;
+        private final int maxChildren;
+        private final Long fanOutSeed;
+        private final Random random;
+        private final List<TableState> children = new ArrayList<>();
+        private long lastKey = 0L;
+
+        private TableState(Table table, TableState parent, DataGenerator<?> generator, ChunkedWriter writer,
+                           String keyField, String foreignKeyField, long count, int minChildren, int maxChildren,
+                           Long fanOutSeed) {
+            this.table = table;
+            this.parent = parent;
+            this.generator = generator;
+            this.writer = writer;
+            this.keyField = keyField;
+            this.foreignKeyField = foreignKeyField;
+            this.count = count;
+            this.minChildren = minChildren;
+            this.maxChildren = maxChildren;
+            this.fanOutSeed = fanOutSeed;
+            this.random = fanOutSeed != null ? new SplitMix64Random(fanOutSeed) : new SplitMix64Random();
+        }
+
+        static TableState create(RunContext runContext, Table table, TableState parent, int index, Long seed,
+                                 ChunkedWriterOptions options) throws Exception {
+            table.getGenerator().init(runContext);
+            String keyField = table.getKeyField() != null ? table.getKeyField() : DEFAULT_KEY_FIELD;
+            String foreignKeyField = parent == null ? null
+                : table.getForeignKeyField() != null ? table.getForeignKeyField() : parent.table.getName() + "_" + parent.keyField;
+
+            long count = 0L;
+            int minChildren = 0;
+            int maxChildren = 0;
+            if (parent == null) {
+                if (table.getCount() == null) {
+                    throw new IllegalArgumentException("Invalid table '%s': 'count' is required for tables without a parent.".formatted(table.getName()));
+                }
+                if (table.getMinChildren() != null || table.getMaxChildren() != null) {
+                    throw new IllegalArgumentException("Invalid table '%s': 'minChildren' and 'maxChildren' are only supported for tables with a parent.".formatted(table.getName()));
+                }
+                count = table.getCount();
+            } else {
+                if (table.getCount() != null) {
+                    throw new IllegalArgumentException("Invalid table '%s': 'count' is only supported for tables without a parent, the number of records follows 'minChildren' and 'maxChildren'.".formatted(table.getName()));
+                }
+                minChildren = table.getMinChildren() != null ? table.getMinChildren() : 1;
+                maxChildren = table.getMaxChildren() != null ? table.getMaxChildren() : minChildren;
+                if (minChildren < 0 || maxChildren < minChildren) {
+                    throw new IllegalArgumentException("Invalid table '%s': 'minChildren' must be positive and not greater than 'maxChildren'.".formatted(table.getName()));
+                }
+            }
+
+            // columnar formats otherwise derive their schema from the first record; also rejects generated key fields upfront
+            Map<String, Object> shape = null;
+            if (table.getGenerator().shape().isPresent()) {
+                shape = new LinkedHashMap<>();
+                shape.put(keyField, 0L);
+                if (foreignKeyField != null) {
+                    shape.put(foreignKeyField, 0L);
+                }
+                putAll(table, shape, table.getGenerator().shape().get());
+            }
+
+            ChunkedWriter writer = new ChunkedWriter(runContext, options, shape);
+            return new TableState(table, parent, table.getGenerator(), writer, keyField, foreignKeyField, count,
+                minChildren, maxChildren, seed != null ? Seeds.fork(seed, index) : null);
+        }
+
+        Map<String, Object> record(long key, long parentKey) {
+            Map<String, Object> record = new LinkedHashMap<>();
+            record.put(keyField, key);
+            if (foreignKeyField != null) {
+                record.put(foreignKeyField, parentKey);
+            }
+            putAll(table, record, generator.produce(key - 1));
+            return record;
+        }
+
+        int fanOut(long parentKey) {
+            if (minChildren == maxChildren) {
+                return minChildren;
+            }
+            if (fanOutSeed != null) {
+                random.setSeed(Seeds.derive(fanOutSeed, parentKey));
+            }
+            return random.nextInt(minChildren, maxChildren + 1);
+        }
+
+        private static void putAll(Table table, Map<String, Object> record, Object value) {
+            if (!(value instanceof Map<?, ?> map)) {
+                throw new IllegalArgumentException("Invalid table '%s': the generator must produce objects.".formatted(table.getName()));
+            }
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                String field = String.valueOf(entry.getKey());
+                if (record.containsKey(field)) {
+                    throw new IllegalArgumentException("Invalid table '%s': the generator produces a field '%s' that is already the key or foreign key field, rename it or set 'keyField' or 'foreignKeyField'.".formatted(table.getName(), field));
+                }
+                record.put(field, entry.getValue());
+            }
+        }
+    }
+
+    @Builder
+    @Jacksonized
+    @Getter
+    public static class Table {
+
+        @Schema(
+            title = "Table name",
+            description = "Name of the table, used as key of the task outputs."
+        )
+        @NotNull
+        private final String name;
+
+        @Schema(
+            title = "Record generator",
+            description = "Generator of the records of the table; must produce objects, e.g. a `JsonObjectGenerator` or a `TypedObjectGenerator`."
+        )
+        @NotNull
+        private final DataGenerator<?> generator;
+
+        @Schema(
+            title = "Parent table",
+            description = "Name of the parent table; each record of the parent table gets between `minChildren` and `maxChildren` records in this table."
+        )
+        private final String parent;
+
+        @Schema(
+            title = "Number of records",
+            description = "Number of records of a table without parent; not supported for tables with a parent."
+        )
+        private final Long count;
+
+        @Schema(
+            title = "Minimum children per parent record",
+            description = "Only supported for tables with a parent; defaults to 1."
+        )
+        private final Integer minChildren;
+
+        @Schema(
+            title = "Maximum children per parent record",
+            description = "Only supported for tables with a parent; defaults to `minChildren`."
+        )
+        private final Integer maxChildren;
+
+        @Schema(
+            title = "Key field",
+            description = "Field holding the key of each record; defaults to `id`. The generator must not produce a field with this name."
+        )
+        private final String keyField;
+
+        @Schema(
+            title = "Foreign key field",
+            description = "Field holding the key of the parent record; defaults to `<parent>_<parent key field>`, e.g. `customers_id`. The generator must not produce a field with this name."
+        )
+        private final String foreignKeyField;
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+
+        @Schema(
+            title = "Generated tables",
+            description = "Stored files and record counts of each table, by table name."
+        )
+        private final Map<String, Data> tables;
+    }
+}
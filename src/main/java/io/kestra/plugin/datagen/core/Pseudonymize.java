@@ -10,12 +10,12 @@ import io.kestra.core.models.tasks.Task;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.serializers.FileSerde;
 import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.plugin.datagen.internal.FakerExpressions;
 import io.kestra.plugin.datagen.internal.Fakers;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
-import net.datafaker.Faker;
 
 import java.io.*;
 import java.net.URI;
@@ -221,7 +221,7 @@ public class Pseudonymize extends Task implements RunnableTask<Pseudonymize.Pseu
             ? runContext.render(this.locale).asList(String.class)
             : List.<String>of();
 
-        var faker = Fakers.create(rLocale);
+        var expressions = new FakerExpressions(Fakers.create(rLocale));
         var inputUri = URI.create(rFrom);
         var resolvedContentType = resolveContentType(runContext, inputUri);
 
@@ -235,9 +235,9 @@ public class Pseudonymize extends Task implements RunnableTask<Pseudonymize.Pseu
 
         try (var inputStream = runContext.storage().getFile(inputUri)) {
             count = switch (resolvedContentType) {
-                case CSV -> processCsv(inputStream, tempFile, faker, rFields);
-                case JSON -> processJson(runContext, inputStream, tempFile, faker, rFields);
-                case ION -> processIon(inputStream, tempFile, faker, rFields);
+                case CSV -> processCsv(inputStream, tempFile, expressions, rFields);
+                case JSON -> processJson(runContext, inputStream, tempFile, expressions, rFields);
+                case ION -> processIon(inputStream, tempFile, expressions, rFields);
             };
         }
 
@@ -267,7 +267,7 @@ public class Pseudonymize extends Task implements RunnableTask<Pseudonymize.Pseu
         );
     }
 
-    private long processCsv(InputStream inputStream, File outputFile, Faker faker, Map<String, String> fields) throws IOException {
+    private long processCsv(InputStream inputStream, File outputFile, FakerExpressions expressions, Map<String, String> fields) throws IOException {
         try (
             var reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
             var writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(outputFile), StandardCharsets.UTF_8))
@@ -302,7 +302,7 @@ public class Pseudonymize extends Task implements RunnableTask<Pseudonymize.Pseu
                 for (var entry : fields.entrySet()) {
                     var idx = columnIndex.getOrDefault(entry.getKey(), -1);
                     if (idx >= 0 && idx < record.size()) {
-                        record.set(idx, Fakers.evaluate(faker, entry.getValue()));
+                        record.set(idx, expressions.evaluate(entry.getValue()));
                     }
                 }
 
@@ -315,7 +315,7 @@ public class Pseudonymize extends Task implements RunnableTask<Pseudonymize.Pseu
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private long processJson(RunContext runContext, InputStream inputStream, File outputFile, Faker faker, Map<String, String> fields) throws IOException {
+    private long processJson(RunContext runContext, InputStream inputStream, File outputFile, FakerExpressions expressions, Map<String, String> fields) throws IOException {
         var mapper = JacksonMapper.ofJson();
 
         try (
@@ -343,7 +343,7 @@ public class Pseudonymize extends Task implements RunnableTask<Pseudonymize.Pseu
                 }
 
                 for (var entry : fields.entrySet()) {
-                    applyDotPath(record, entry.getKey(), faker, entry.getValue());
+                    applyDotPath(record, entry.getKey(), expressions, entry.getValue());
                 }
 
                 writer.write(mapper.writeValueAsString(record));
@@ -355,7 +355,7 @@ public class Pseudonymize extends Task implements RunnableTask<Pseudonymize.Pseu
     }
 
     @SuppressWarnings("unchecked")
-    private long processIon(InputStream inputStream, File outputFile, Faker faker, Map<String, String> fields) throws Exception {
+    private long processIon(InputStream inputStream, File outputFile, FakerExpressions expressions, Map<String, String> fields) throws Exception {
         try (
             var reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
             var writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(outputFile), StandardCharsets.UTF_8))
@@ -365,7 +365,7 @@ public class Pseudonymize extends Task implements RunnableTask<Pseudonymize.Pseu
                     if (row instanceof Map<?, ?> map) {
                         var record = (Map<String, Object>) map;
                         for (var entry : fields.entrySet()) {
-                            applyDotPath(record, entry.getKey(), faker, entry.getValue());
+                            applyDotPath(record, entry.getKey(), expressions, entry.getValue());
                         }
                     }
                     return row;
@@ -392,7 +392,7 @@ public class Pseudonymize extends Task implements RunnableTask<Pseudonymize.Pseu
     }
 
     @SuppressWarnings("unchecked")
-    private static void applyDotPath(Map<String, Object> record, String dotPath, Faker faker, String expression) {
+    private static void applyDotPath(Map<String, Object> record, String dotPath, FakerExpressions expressions, String expression) {
         var parts = dotPath.split("\\.", -1);
         Map<String, Object> current = record;
 
@@ -407,7 +407,7 @@ public class Pseudonymize extends Task implements RunnableTask<Pseudonymize.Pseu
 
         var leaf = parts[parts.length - 1];
         if (current.containsKey(leaf)) {
-            current.put(leaf, Fakers.evaluate(faker, expression));
+            current.put(leaf, expressions.evaluate(expression));
         }
     }
 
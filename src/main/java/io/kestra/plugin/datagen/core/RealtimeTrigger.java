@@ -18,6 +18,7 @@ import io.kestra.plugin.datagen.model.DataGenerator;
 import io.kestra.plugin.datagen.model.Producer;
 import io.kestra.plugin.datagen.services.DataEmitterOptions;
 import io.kestra.plugin.datagen.services.DataEmitter;
+import io.kestra.plugin.datagen.utils.DataUtils;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.AccessLevel;
@@ -33,6 +34,7 @@ import reactor.core.publisher.Flux;
 import java.time.Duration;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 @Plugin(
@@ -72,7 +74,7 @@ import java.util.function.Consumer;
 )
 @Schema(
     title = "Stream generated data in real time",
-    description = "Continuously runs the generator with backpressure. Controls include `throughput` per second (minimum 1), `maxRecords` cap (default unlimited), and `reportingInterval` for stats; data is emitted in trigger output, not stored."
+    description = "Continuously runs the generator with backpressure. Controls include `throughput` per second (minimum 1), `maxRecords` cap (default unlimited), and `reportingInterval` for stats; data is emitted in trigger output, not stored. Set the generator's `renderScope` to `RUN` to render its Pebble expressions only once."
 )
 @NoArgsConstructor
 @SuperBuilder
@@ -137,26 +139,29 @@ public class RealtimeTrigger extends AbstractTrigger implements RealtimeTriggerI
             runContext.render(this.reportingInterval).as(Duration.class).orElseThrow()
         );
 
+        // the generator is initialized once, so that Pebble expressions can be rendered once per run
+        generator.init(runContext);
+        if (generator.reusesRecords()) {
+            throw new IllegalArgumentException("The generator reuses its records, which cannot be emitted by a realtime trigger.");
+        }
+
         return Flux.create(emitter -> {
 
             // handle dispose - invoked after complete/error.
             emitter.onDispose(waitForTermination::countDown);
 
-            // Create Generate Task
-            Generate task = Generate
-                .builder()
-                .id(this.id)
-                .type(Generate.class.getName())
-                .version(version)
-                .store(Property.ofValue(false))
-                .batchSize(Property.ofValue(1))
-                .generator(generator)
-                .build();
-
-            // Create DataEmitter
+            // Create DataEmitter; each record is a batch of one
+            AtomicLong index = new AtomicLong(0L);
             Producer<Data> producer = () -> {
                 try {
-                    return task.run(runContext);
+                    generator.startBatch();
+                    Object value = generator.produce(index.getAndIncrement());
+                    return Data
+                        .builder()
+                        .size(DataUtils.computeSize(value, runContext.logger()))
+                        .count(1L)
+                        .value(value)
+                        .build();
                 } catch (Exception e) {
                     throw new RuntimeException("Failed to generate data", e);
                 }
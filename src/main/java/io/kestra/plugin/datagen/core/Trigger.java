@@ -10,6 +10,8 @@ import io.kestra.core.models.triggers.PollingTriggerInterface;
 import io.kestra.core.models.triggers.TriggerContext;
 import io.kestra.core.models.triggers.TriggerOutput;
 import io.kestra.core.models.triggers.TriggerService;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.plugin.datagen.BatchGenerateInterface;
 import io.kestra.plugin.datagen.Data;
 import io.kestra.plugin.datagen.model.DataGenerator;
@@ -21,6 +23,9 @@ import lombok.NoArgsConstructor;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Duration;
 import java.util.Optional;
 
@@ -61,7 +66,7 @@ import java.util.Optional;
 )
 @Schema(
     title = "Poll to generate data batches",
-    description = "Periodically invokes the generator and emits an execution. Defaults: `store=false`, `batchSize=1`, `interval=PT1S`. Use `store=true` to persist Ion lines to internal storage instead of embedding the value."
+    description = "Periodically invokes the generator and emits an execution. Defaults: `store=false`, `batchSize=1`, `interval=PT1S`. Use `store=true` to persist Ion lines to internal storage instead of embedding the value. With a seeded generator, each poll continues from the index following the last record of the previous poll, saved in the state store, so that polls do not repeat the same records."
 )
 @NoArgsConstructor
 @SuperBuilder
@@ -70,19 +75,25 @@ import java.util.Optional;
 @Getter
 public class Trigger extends AbstractTrigger implements PollingTriggerInterface, TriggerOutput<Data>, BatchGenerateInterface {
 
+    private static final String STATE_NAME = "datagen-trigger-index";
+
     private DataGenerator<?> generator;
 
     @Builder.Default
     private Property<Boolean> store = Property.ofValue(false);
 
     @Builder.Default
-    private Property<Integer> batchSize = Property.ofValue(1);
+    private Property<Long> batchSize = Property.ofValue(1L);
 
     @Builder.Default
     private final Duration interval = Duration.ofSeconds(1);
 
     @Override
     public Optional<Execution> evaluate(ConditionContext conditionContext, TriggerContext context) throws Exception {
+        RunContext runContext = conditionContext.getRunContext();
+        // a seeded generator continues from the records of the previous poll instead of repeating them
+        boolean seeded = runContext.render(generator.getSeed()).as(Long.class).isPresent();
+        long offset = seeded ? loadNextIndex(runContext) : 0L;
         Generate task = Generate
             .builder()
             .id(this.id)
@@ -90,10 +101,27 @@ public class Trigger extends AbstractTrigger implements PollingTriggerInterface,
             .version(version)
             .store(store)
             .batchSize(batchSize)
+            .offset(Property.ofValue(offset))
             .generator(generator)
             .build();
 
-        Data output = task.run(conditionContext.getRunContext());
+        Data output = task.run(runContext);
+        if (seeded) {
+            runContext.stateStore().putState(STATE_NAME, this.id, null, JacksonMapper.ofJson().writeValueAsBytes(offset + output.getCount()));
+        }
         return Optional.of(TriggerService.generateExecution(this, conditionContext, context, output));
     }
+
+    private long loadNextIndex(RunContext runContext) throws IOException {
+        try (InputStream is = runContext.stateStore().getState(STATE_NAME, this.id, null)) {
+            return JacksonMapper.ofJson().readValue(is, Long.class);
+        } catch (FileNotFoundException e) {
+            return 0L;
+        } catch (Exception e) {
+            if (e instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("Failed to load the index of the next record", e);
+        }
+    }
 }
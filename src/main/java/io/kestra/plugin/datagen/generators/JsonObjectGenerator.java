@@ -7,22 +7,28 @@ import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.annotations.PluginProperty;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContext;
-import io.kestra.plugin.datagen.internal.Fakers;
+import io.kestra.plugin.datagen.internal.FakerExpressions;
+import io.kestra.plugin.datagen.internal.ObjectTemplate;
+import io.kestra.plugin.datagen.internal.UniqueValues;
+import io.kestra.plugin.datagen.internal.ValuePool;
 import io.kestra.plugin.datagen.model.DataGenerator;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.AccessLevel;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
-import net.datafaker.Faker;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Schema(
     title = "Generate JSON objects from templates",
-    description = "Renders the `value` map, then evaluates Datafaker expressions (`#{...}`) on every record. Supports nested maps/lists; locale list overrides Faker locale, otherwise the library default is used."
+    description = "Renders the `value` map, then evaluates Datafaker expressions (`#{...}`) on every record. Supports nested maps/lists; locale list overrides Faker locale, otherwise the library default is used. The template is analysed once, so only the values containing Pebble or Datafaker expressions are evaluated per record. Fields can also be produced by other generators, see `generators`."
 )
 @Plugin
 @NoArgsConstructor
@@ -46,24 +52,194 @@ public final class JsonObjectGenerator extends DataGenerator<Map<String, Object>
     @PluginProperty(group = "advanced")
     private Property<List<String>> locale;
 
+    @Schema(
+        title = "Value pool size",
+        description = "When set, each Datafaker expression generates this number of distinct values once, then every record samples one of them instead of calling Datafaker. This trades variety for throughput; values rendered by Pebble are not pooled. Parallel workers sample the same pools. See `poolSizes` to pool only some fields."
+    )
+    @PluginProperty(group = "advanced")
+    private Property<Integer> poolSize;
+
+    @Schema(
+        title = "Value pool size by field",
+        description = "Map of top-level field names to the pool size of the Datafaker expressions of the field, including the ones nested in it, e.g. `country: 50`. Overrides `poolSize` for these fields; a size of 0 disables pooling for a field."
+    )
+    @PluginProperty(group = "advanced")
+    private Property<Map<String, Integer>> poolSizes;
+
+    @Schema(
+        title = "Value pool skew",
+        description = "Exponent of the Zipf distribution used to sample pooled values, so that the first generated values are the most frequent; 0 samples values uniformly."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Double> poolSkew = Property.ofValue(0.0);
+
+    @Schema(
+        title = "Field generators",
+        description = "Map of field names to generators producing the value of the field for each record, e.g. a `NumberGenerator` sampling a distribution. Generated fields are added after the ones of `value`, and replace them on conflicts. When a `seed` is set, generators without their own seed are seeded from it."
+    )
+    @PluginProperty(group = "advanced")
+    private Map<String, DataGenerator<?>> generators;
+
+    @Schema(
+        title = "Unique fields",
+        description = "Top-level fields whose values must be unique among the generated records, e.g. `email`. A value already generated is regenerated, up to `uniqueMaxRetries` times before failing. Seen values are tracked by a Bloom filter sized by `uniqueCapacity` and `uniqueFalsePositiveRate`, so memory stays bounded; a false positive only causes a unique value to be regenerated. Values are only unique within the records generated by one task run: the `Generate` task rejects unique fields with a `checkpointInterval`, an `offset`, or a seeded generator with a `parallelism` greater than 1."
+    )
+    @PluginProperty(group = "advanced")
+    private Property<List<String>> uniqueFields;
+
+    @Schema(
+        title = "Unique values capacity",
+        description = "Expected number of values of each unique field, used to size its filter; defaults to 10000000, i.e. about 18 MiB per field with the default false-positive rate."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Long> uniqueCapacity = Property.ofValue(UniqueValues.DEFAULT_CAPACITY);
+
+    @Schema(
+        title = "Unique values false-positive rate",
+        description = "Probability that a new value of a unique field is wrongly considered as already generated, once `uniqueCapacity` values were generated; defaults to 0.001."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Double> uniqueFalsePositiveRate = Property.ofValue(UniqueValues.DEFAULT_FALSE_POSITIVE_RATE);
+
+    @Schema(
+        title = "Unique values maximum retries",
+        description = "Maximum number of times a value of a unique field is regenerated for a record before failing; defaults to 100."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> uniqueMaxRetries = Property.ofValue(UniqueValues.DEFAULT_MAX_RETRIES);
+
+    @Getter(AccessLevel.NONE)
+    private ObjectTemplate template;
+
     @Getter(AccessLevel.NONE)
-    private Faker faker;
+    private List<ValuePool> pools;
+
+    @Getter(AccessLevel.NONE)
+    private String[] uniqueNames;
+
+    @Getter(AccessLevel.NONE)
+    private UniqueValues[] uniqueValues;
+
+    @Getter(AccessLevel.NONE)
+    private String[] generatedNames;
+
+    @Getter(AccessLevel.NONE)
+    private DataGenerator<?>[] fieldGenerators;
 
     /** {@inheritDoc} **/
     @Override
     public void init(RunContext runContext) throws IllegalVariableEvaluationException {
         super.init(runContext);
-        this.faker = Fakers.create(runContext.render(this.locale).asList(String.class));
+        FakerExpressions expressions = createFakerExpressions(runContext.render(this.locale).asList(String.class));
+        Integer rPoolSize = runContext.render(this.poolSize).as(Integer.class).orElse(null);
+        Map<String, Integer> rPoolSizes = runContext.render(this.poolSizes).asMap(String.class, Integer.class);
+        Double rPoolSkew = runContext.render(this.poolSkew).as(Double.class).orElse(0.0);
+        this.pools = new ArrayList<>();
+        this.template = ObjectTemplate.compile(this.value, expressions, (field, expression) -> {
+            Integer size = field != null && rPoolSizes.containsKey(field) ? rPoolSizes.get(field) : rPoolSize;
+            if (size == null || size == 0) {
+                return expression;
+            }
+            ValuePool pool = isSharingState() ? ValuePool.empty(this.random) : ValuePool.of(expression, size, rPoolSkew, this.random);
+            pools.add(pool);
+            return pool;
+        });
+
+        Map<String, DataGenerator<?>> components = this.generators != null ? this.generators : Map.of();
+        this.generatedNames = new String[components.size()];
+        this.fieldGenerators = new DataGenerator<?>[components.size()];
+        int i = 0;
+        for (Map.Entry<String, DataGenerator<?>> entry : components.entrySet()) {
+            this.generatedNames[i] = entry.getKey();
+            this.fieldGenerators[i] = entry.getValue();
+            initComponent(entry.getValue(), i);
+            i++;
+        }
+
+        List<String> rUniqueFields = runContext.render(this.uniqueFields).asList(String.class);
+        long rUniqueCapacity = runContext.render(this.uniqueCapacity).as(Long.class).orElse(UniqueValues.DEFAULT_CAPACITY);
+        double rUniqueFalsePositiveRate = runContext.render(this.uniqueFalsePositiveRate).as(Double.class).orElse(UniqueValues.DEFAULT_FALSE_POSITIVE_RATE);
+        int rUniqueMaxRetries = runContext.render(this.uniqueMaxRetries).as(Integer.class).orElse(UniqueValues.DEFAULT_MAX_RETRIES);
+        this.uniqueNames = rUniqueFields.toArray(String[]::new);
+        this.uniqueValues = new UniqueValues[uniqueNames.length];
+        for (int j = 0; j < uniqueNames.length; j++) {
+            if (!template.hasField(uniqueNames[j]) && !components.containsKey(uniqueNames[j])) {
+                throw new IllegalArgumentException("Invalid value for property 'uniqueFields': unknown field '%s'.".formatted(uniqueNames[j]));
+            }
+            this.uniqueValues[j] = new UniqueValues(uniqueNames[j], rUniqueCapacity, rUniqueFalsePositiveRate, rUniqueMaxRetries);
+        }
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public boolean hasUniqueValues() {
+        return uniqueValues.length > 0 || super.hasUniqueValues();
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public void shareState(DataGenerator<?> generator) {
+        super.shareState(generator);
+        JsonObjectGenerator other = (JsonObjectGenerator) generator;
+        this.uniqueValues = other.uniqueValues;
+        // pools are compiled in template order, so they match between copies
+        for (int i = 0; i < pools.size(); i++) {
+            pools.get(i).share(other.pools.get(i));
+        }
     }
 
     /** {@inheritDoc} **/
     @Override
     public Map<String, Object> produce() {
         try {
-            Map<String, Object> objectMap = runContext.render(this.value);
-            return Fakers.evaluate(faker, objectMap);
+            Map<String, Object> record = template.evaluate(this::render);
+            for (int i = 0; i < generatedNames.length; i++) {
+                record.put(generatedNames[i], fieldGenerators[i].produce());
+            }
+            for (int i = 0; i < uniqueNames.length; i++) {
+                record.put(uniqueNames[i], unique(i, record.get(uniqueNames[i])));
+            }
+            return record;
         } catch (IllegalVariableEvaluationException e) {
             throw new KestraRuntimeException("Failed to generate data", e);
         }
     }
+
+    private Object unique(final int field, final Object value) throws IllegalVariableEvaluationException {
+        UniqueValues unique = uniqueValues[field];
+        Object next = value;
+        for (int retry = 0; !unique.add(next); retry++) {
+            if (retry >= unique.maxRetries()) {
+                throw unique.exhausted();
+            }
+            next = regenerate(uniqueNames[field]);
+        }
+        return next;
+    }
+
+    private Object regenerate(final String field) throws IllegalVariableEvaluationException {
+        for (int i = 0; i < generatedNames.length; i++) {
+            if (generatedNames[i].equals(field)) {
+                return fieldGenerators[i].produce();
+            }
+        }
+        return template.evaluateValue(field, this::render);
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public Optional<Object> shape() {
+        if (this.value == null || fieldGenerators == null || fieldGenerators.length == 0) {
+            return Optional.ofNullable(this.value);
+        }
+        Map<String, Object> shape = new LinkedHashMap<>(this.value);
+        for (int i = 0; i < generatedNames.length; i++) {
+            shape.put(generatedNames[i], fieldGenerators[i].shape().orElse(null));
+        }
+        return Optional.of(shape);
+    }
 }
@@ -0,0 +1,223 @@
+package io.kestra.plugin.datagen.generators;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.datagen.internal.KeySampler;
+import io.kestra.plugin.datagen.internal.Permutation;
+import io.kestra.plugin.datagen.model.ColumnBatch;
+import io.kestra.plugin.datagen.model.DataGenerator;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.util.Optional;
+
+@Schema(
+    title = "Generate keys with a controlled skew",
+    description = "Produces one key per record among `cardinality` keys, for load testing partitioned systems: keys can be `UNIFORM`, follow a `HOTSPOT` where a fraction of the keys receives a fraction of the traffic, or a `ZIPF` distribution. Sampling takes constant time and memory whatever the cardinality, up to billions of keys, as the key space is never materialized. Hot keys are scattered over the key space by a pseudo-random bijection, and can move every `rotateEvery` records. Can be used standalone, for fields of a `JsonObjectGenerator` through its `generators` property, or with a `RealtimeTrigger`."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            code = """
+            id: datagen_hot_keys
+            namespace: com.example.datagen
+
+            triggers:
+              - id: realtime
+                type: io.kestra.plugin.datagen.core.RealtimeTrigger
+                throughput: 1000
+                generator:
+                  type: io.kestra.plugin.datagen.generators.JsonObjectGenerator
+                  value:
+                    action: "#{options.option 'view','click','buy'}"
+                  generators:
+                    userId:
+                      type: io.kestra.plugin.datagen.generators.KeyGenerator
+                      cardinality: 1000000000
+                      distribution: HOTSPOT
+                      hotKeyRatio: 0.01
+                      hotTrafficRatio: 0.5
+                      rotateEvery: 60000
+                      prefix: "user-"
+
+            tasks:
+              - id: log
+                type: io.kestra.plugin.core.log.Log
+                message: "{{ trigger.value }}"
+            """
+        )
+    }
+)
+@NoArgsConstructor
+@SuperBuilder
+@JsonDeserialize
+@Getter
+public final class KeyGenerator extends DataGenerator<Object> {
+
+    // selects the scrambling of unseeded generators, so that keys are stable across runs
+    private static final long DEFAULT_PERMUTATION_SEED = 0x5DEECE66DL;
+
+    @Schema(
+        title = "Cardinality",
+        description = "Number of distinct keys, from 0 to `cardinality - 1`; defaults to 1000000."
+    )
+    @Builder.Default
+    @PluginProperty(group = "main")
+    private Property<Long> cardinality = Property.ofValue(1_000_000L);
+
+    @Schema(
+        title = "Distribution",
+        description = "Distribution of the keys: `UNIFORM` (default), `HOTSPOT` or `ZIPF`."
+    )
+    @Builder.Default
+    @PluginProperty(group = "main")
+    private Property<Distribution> distribution = Property.ofValue(Distribution.UNIFORM);
+
+    @Schema(
+        title = "Hot key ratio",
+        description = "Fraction of the keys that are hot with the `HOTSPOT` distribution; defaults to 0.01."
+    )
+    @Builder.Default
+    @PluginProperty(group = "main")
+    private Property<Double> hotKeyRatio = Property.ofValue(0.01);
+
+    @Schema(
+        title = "Hot traffic ratio",
+        description = "Fraction of the records going to hot keys with the `HOTSPOT` distribution; defaults to 0.5."
+    )
+    @Builder.Default
+    @PluginProperty(group = "main")
+    private Property<Double> hotTrafficRatio = Property.ofValue(0.5);
+
+    @Schema(
+        title = "Zipf exponent",
+        description = "Exponent of the `ZIPF` distribution: the key of rank `k` has a probability proportional to `1 / k^exponent`; defaults to 1."
+    )
+    @Builder.Default
+    @PluginProperty(group = "main")
+    private Property<Double> exponent = Property.ofValue(1.0);
+
+    @Schema(
+        title = "Hotspot rotation",
+        description = "Number of records after which the hot keys move to other keys, to simulate a rotating hotspot; hot keys never move when not set."
+    )
+    @PluginProperty(group = "advanced")
+    private Property<Long> rotateEvery;
+
+    @Schema(
+        title = "Key prefix",
+        description = "When set, keys are strings made of this prefix followed by the key number, e.g. `user-42`; keys are numbers otherwise."
+    )
+    @PluginProperty(group = "advanced")
+    private Property<String> prefix;
+
+    @Getter(AccessLevel.NONE)
+    private KeySampler sampler;
+
+    @Getter(AccessLevel.NONE)
+    private Permutation permutation;
+
+    @Getter(AccessLevel.NONE)
+    private long rotation;
+
+    @Getter(AccessLevel.NONE)
+    private String keyPrefix;
+
+    @Getter(AccessLevel.NONE)
+    private long index;
+
+    /** {@inheritDoc} **/
+    @Override
+    public void init(RunContext runContext) throws IllegalVariableEvaluationException {
+        super.init(runContext);
+        long rCardinality = runContext.render(this.cardinality).as(Long.class).orElse(1_000_000L);
+        this.sampler = switch (runContext.render(this.distribution).as(Distribution.class).orElse(Distribution.UNIFORM)) {
+            case UNIFORM -> KeySampler.uniform(rCardinality);
+            case HOTSPOT -> KeySampler.hotspot(
+                rCardinality,
+                runContext.render(this.hotKeyRatio).as(Double.class).orElse(0.01),
+                runContext.render(this.hotTrafficRatio).as(Double.class).orElse(0.5)
+            );
+            case ZIPF -> KeySampler.zipf(rCardinality, runContext.render(this.exponent).as(Double.class).orElse(1.0));
+        };
+        this.permutation = new Permutation(rCardinality, isSeeded() ? rootSeed() : DEFAULT_PERMUTATION_SEED);
+        this.rotation = runContext.render(this.rotateEvery).as(Long.class).orElse(0L);
+        if (rotation < 0) {
+            throw new IllegalArgumentException("Invalid value for property 'rotateEvery': must be positive, but was: " + rotation);
+        }
+        this.keyPrefix = runContext.render(this.prefix).as(String.class).orElse(null);
+        this.index = 0L;
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public void seek(long index) {
+        super.seek(index);
+        this.index = index;
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public Object produce() {
+        long key = nextKey();
+        return keyPrefix != null ? keyPrefix + key : key;
+    }
+
+    /**
+     * Produces the next key as a primitive.
+     *
+     * @return a key between 0 (inclusive) and the cardinality (exclusive).
+     */
+    public long nextKey() {
+        long rank = sampler.nextRank(random);
+        if (rotation > 0) {
+            // moves the hot ranks onto the next ones, which the permutation maps to unrelated keys
+            long positions = sampler.cardinality() / sampler.hotKeys();
+            long shift = ((index / rotation) % positions) * sampler.hotKeys();
+            rank = (rank + shift) % sampler.cardinality();
+        }
+        index++;
+        return permutation.apply(rank);
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public ColumnBatch.Type columnType() {
+        return keyPrefix != null ? ColumnBatch.Type.OBJECT : ColumnBatch.Type.LONG;
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public void fillColumn(Object column, int row) {
+        if (keyPrefix != null) {
+            ((Object[]) column)[row] = produce();
+        } else {
+            ((long[]) column)[row] = nextKey();
+        }
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public Optional<Object> shape() {
+        return Optional.of(keyPrefix != null ? (Object) "" : (Object) 0L);
+    }
+
+    /**
+     * The supported key distributions.
+     */
+    public enum Distribution {
+        UNIFORM,
+        HOTSPOT,
+        ZIPF
+    }
+}
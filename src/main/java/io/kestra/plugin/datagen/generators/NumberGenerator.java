@@ -0,0 +1,208 @@
+package io.kestra.plugin.datagen.generators;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.datagen.internal.Sampler;
+import io.kestra.plugin.datagen.model.ColumnBatch;
+import io.kestra.plugin.datagen.model.DataGenerator;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.util.Optional;
+
+@Schema(
+    title = "Generate numbers following a statistical distribution",
+    description = "Samples one number per record from a uniform, normal, log-normal, exponential, Poisson or Zipf distribution. Continuous distributions produce floating-point numbers, Poisson and Zipf produce integers. Sampling is done on primitives in constant time, Zipf values being drawn from a precomputed alias table. Can be used standalone, or for fields of a `JsonObjectGenerator` through its `generators` property."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            code = """
+            id: datagen_orders
+            namespace: com.example.datagen
+
+            tasks:
+              - id: datagen
+                type: io.kestra.plugin.datagen.core.Generate
+                store: true
+                batchSize: 1000000
+                generator:
+                  type: io.kestra.plugin.datagen.generators.JsonObjectGenerator
+                  value:
+                    customer: "#{name.fullName}"
+                  generators:
+                    productId:
+                      type: io.kestra.plugin.datagen.generators.NumberGenerator
+                      distribution: ZIPF
+                      cardinality: 10000
+                      exponent: 1.1
+                    amount:
+                      type: io.kestra.plugin.datagen.generators.NumberGenerator
+                      distribution: LOG_NORMAL
+                      mean: 3.5
+                      stddev: 0.8
+            """
+        )
+    }
+)
+@NoArgsConstructor
+@SuperBuilder
+@JsonDeserialize
+@Getter
+public final class NumberGenerator extends DataGenerator<Number> {
+
+    // bounds the memory of the Zipf alias table
+    private static final int MAX_CARDINALITY = 10_000_000;
+
+    @Schema(
+        title = "Distribution",
+        description = "Distribution of the generated numbers; defaults to `UNIFORM`."
+    )
+    @Builder.Default
+    @PluginProperty(group = "main")
+    private Property<Distribution> distribution = Property.ofValue(Distribution.UNIFORM);
+
+    @Schema(
+        title = "Minimum value (inclusive)",
+        description = "Lower bound of `UNIFORM` values; defaults to 0."
+    )
+    @PluginProperty(group = "main")
+    private Property<Double> min;
+
+    @Schema(
+        title = "Maximum value (exclusive)",
+        description = "Upper bound of `UNIFORM` values; defaults to 1."
+    )
+    @PluginProperty(group = "main")
+    private Property<Double> max;
+
+    @Schema(
+        title = "Mean",
+        description = "Mean of `NORMAL`, `EXPONENTIAL` and `POISSON` values, or of the logarithm of `LOG_NORMAL` values; defaults to 0 for `NORMAL` and `LOG_NORMAL`, and 1 otherwise."
+    )
+    @PluginProperty(group = "main")
+    private Property<Double> mean;
+
+    @Schema(
+        title = "Standard deviation",
+        description = "Standard deviation of `NORMAL` values, or of the logarithm of `LOG_NORMAL` values; defaults to 1."
+    )
+    @PluginProperty(group = "main")
+    private Property<Double> stddev;
+
+    @Schema(
+        title = "Cardinality",
+        description = "Number of distinct `ZIPF` values, from 1 to `cardinality`; defaults to 1000, at most 10000000."
+    )
+    @PluginProperty(group = "main")
+    private Property<Integer> cardinality;
+
+    @Schema(
+        title = "Exponent",
+        description = "Exponent of the `ZIPF` distribution: the value `k` has a probability proportional to `1 / k^exponent`; defaults to 1."
+    )
+    @PluginProperty(group = "main")
+    private Property<Double> exponent;
+
+    @Getter(AccessLevel.NONE)
+    private Sampler sampler;
+
+    /** {@inheritDoc} **/
+    @Override
+    public void init(RunContext runContext) throws IllegalVariableEvaluationException {
+        super.init(runContext);
+        Distribution rDistribution = runContext.render(this.distribution).as(Distribution.class).orElse(Distribution.UNIFORM);
+        double rStddev = runContext.render(this.stddev).as(Double.class).orElse(1.0);
+        this.sampler = switch (rDistribution) {
+            case UNIFORM -> Sampler.uniform(
+                runContext.render(this.min).as(Double.class).orElse(0.0),
+                runContext.render(this.max).as(Double.class).orElse(1.0)
+            );
+            case NORMAL -> Sampler.normal(runContext.render(this.mean).as(Double.class).orElse(0.0), rStddev);
+            case LOG_NORMAL -> Sampler.logNormal(runContext.render(this.mean).as(Double.class).orElse(0.0), rStddev);
+            case EXPONENTIAL -> Sampler.exponential(runContext.render(this.mean).as(Double.class).orElse(1.0));
+            case POISSON -> Sampler.poisson(runContext.render(this.mean).as(Double.class).orElse(1.0));
+            case ZIPF -> {
+                int rCardinality = runContext.render(this.cardinality).as(Integer.class).orElse(1000);
+                if (rCardinality > MAX_CARDINALITY) {
+                    throw new IllegalArgumentException("Invalid value for property 'cardinality': must be at most %d, but was: %d.".formatted(MAX_CARDINALITY, rCardinality));
+                }
+                yield Sampler.zipf(rCardinality, runContext.render(this.exponent).as(Double.class).orElse(1.0));
+            }
+        };
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public Number produce() {
+        if (sampler.isDiscrete()) {
+            return nextLong();
+        }
+        return nextDouble();
+    }
+
+    /**
+     * Produces the next value as a primitive.
+     *
+     * @return the value, rounded to the nearest integer for continuous distributions.
+     */
+    public long nextLong() {
+        return sampler.nextLong(random);
+    }
+
+    /**
+     * Produces the next value as a primitive.
+     *
+     * @return the value.
+     */
+    public double nextDouble() {
+        return sampler.nextDouble(random);
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public ColumnBatch.Type columnType() {
+        return sampler.isDiscrete() ? ColumnBatch.Type.LONG : ColumnBatch.Type.DOUBLE;
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public void fillColumn(Object column, int row) {
+        if (sampler.isDiscrete()) {
+            ((long[]) column)[row] = nextLong();
+        } else {
+            ((double[]) column)[row] = nextDouble();
+        }
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public Optional<Object> shape() {
+        if (sampler == null) {
+            return Optional.empty();
+        }
+        return Optional.of(sampler.isDiscrete() ? (Object) 0L : (Object) 0.0);
+    }
+
+    /**
+     * The supported distributions.
+     */
+    public enum Distribution {
+        UNIFORM,
+        NORMAL,
+        LOG_NORMAL,
+        EXPONENTIAL,
+        POISSON,
+        ZIPF
+    }
+}
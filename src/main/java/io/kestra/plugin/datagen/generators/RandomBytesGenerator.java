@@ -1,7 +1,11 @@
 package io.kestra.plugin.datagen.generators;
 
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.datagen.internal.ReseedableGenerator;
 import io.kestra.plugin.datagen.model.DataGenerator;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
@@ -12,11 +16,14 @@ import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
 import java.security.SecureRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
 import io.kestra.core.models.annotations.PluginProperty;
 
 @Schema(
     title = "Generate random byte arrays",
-    description = "Allocates a byte array of the configured size and fills it with `SecureRandom` bytes. Size should be positive; randomness relies on the JVM's default seed."
+    description = "Fills a byte array of the configured size with random bytes from the configured `algorithm`, optionally mixed with repeated blocks to control how well the data compresses. Size should be positive. The default algorithm is a fast non-cryptographic generator; use `SECURE` for cryptographically strong bytes. When a `seed` is set, the bytes of each record are drawn from a stream derived from the seed and the record index."
 )
 @Plugin
 @NoArgsConstructor
@@ -25,6 +32,8 @@ import io.kestra.core.models.annotations.PluginProperty;
 @Getter
 public class RandomBytesGenerator extends DataGenerator<byte[]> {
 
+    private static final int BLOCK_SIZE = 1024;
+
     @Schema(
         title = "Byte array size",
         description = "Number of bytes produced per record; should be greater than zero"
@@ -33,17 +42,158 @@ public class RandomBytesGenerator extends DataGenerator<byte[]> {
     @PluginProperty(group = "main")
     private int size;
 
-    @Getter(AccessLevel.NONE)
+    @Schema(
+        title = "Random algorithm",
+        description = "Algorithm generating the bytes. The non-cryptographic algorithms of `java.util.random` fill buffers at several GB/s, which suits storage and network load tests; `SECURE` uses `SecureRandom`. With a `seed`, the generator is re-seeded in place for each record, so its bytes differ from the ones of the JDK implementation of the algorithm. Each parallel worker uses its own generator instance."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Algorithm> algorithm = Property.ofValue(Algorithm.L64X128_MIX_RANDOM);
+
+    @Schema(
+        title = "Reuse buffer",
+        description = "Fills the same byte array for every record instead of allocating a new one, which avoids allocating large payloads for each record. Only safe when each record is written before the next one is produced, i.e. with `Generate` storing records with a `parallelism` of 1; other usages are rejected."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> reuseBuffer = Property.ofValue(false);
+
+    @Schema(
+        title = "Compressibility",
+        description = "Ratio between 0 and 1 of the bytes made of a repeated block instead of random bytes, e.g. `0.6` for data that compresses to roughly 40% of its size. Records are built from blocks of 1024 bytes, each one either random or a copy of the repeated block. Defaults to 0, i.e. incompressible data."
+    )
     @Builder.Default
-    private SecureRandom random = new SecureRandom();
+    @PluginProperty(group = "advanced")
+    private Property<Double> compressibility = Property.ofValue(0.0);
+
+    // re-seeded for each record when a seed is configured
+    @Getter(AccessLevel.NONE)
+    private ReseedableGenerator seeded;
+
+    @Getter(AccessLevel.NONE)
+    private boolean reuse;
+
+    @Getter(AccessLevel.NONE)
+    private double repeatedRatio;
+
+    @Getter(AccessLevel.NONE)
+    private byte[] repeatedBlock;
+
+    @Getter(AccessLevel.NONE)
+    private byte[] buffer;
+
+    @Getter(AccessLevel.NONE)
+    private RandomGenerator generator;
+
+    /** {@inheritDoc} **/
+    @Override
+    public void init(RunContext runContext) throws IllegalVariableEvaluationException {
+        super.init(runContext);
+        Algorithm rAlgorithm = runContext.render(this.algorithm).as(Algorithm.class).orElse(Algorithm.L64X128_MIX_RANDOM);
+        if (rAlgorithm == Algorithm.SECURE) {
+            if (isSeeded()) {
+                throw new IllegalArgumentException("Invalid value for property 'algorithm': SECURE cannot be used with a 'seed'.");
+            }
+            this.seeded = null;
+            this.generator = new SecureRandom();
+        } else if (isSeeded()) {
+            this.seeded = ReseedableGenerator.of(rAlgorithm.getName());
+            this.seeded.setSeed(random.nextLong());
+            this.generator = seeded;
+        } else {
+            this.seeded = null;
+            this.generator = RandomGeneratorFactory.of(rAlgorithm.getName()).create();
+        }
+
+        this.reuse = runContext.render(this.reuseBuffer).as(Boolean.class).orElse(false);
+        this.buffer = null;
+        this.repeatedRatio = runContext.render(this.compressibility).as(Double.class).orElse(0.0);
+        if (repeatedRatio < 0.0 || repeatedRatio > 1.0) {
+            throw new IllegalArgumentException("Invalid value for property 'compressibility': must be between 0 and 1, but was: " + repeatedRatio);
+        }
+        if (repeatedRatio > 0.0) {
+            // drawn from the generator's random source, so that it is the same for all the workers of a seeded run
+            this.repeatedBlock = new byte[BLOCK_SIZE];
+            random.nextBytes(repeatedBlock);
+        }
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public void seek(long index) {
+        super.seek(index);
+        if (seeded != null) {
+            seeded.setSeed(random.nextLong());
+        }
+    }
 
     /**
      * {@inheritDoc }
      **/
     @Override
     public byte[] produce() {
-        byte[] bytes = new byte[size];
-        random.nextBytes(bytes);
+        byte[] bytes;
+        if (reuse) {
+            if (buffer == null) {
+                buffer = new byte[size];
+            }
+            bytes = buffer;
+        } else {
+            bytes = new byte[size];
+        }
+
+        if (repeatedRatio <= 0.0) {
+            generator.nextBytes(bytes);
+            return bytes;
+        }
+        for (int from = 0; from < bytes.length; from += BLOCK_SIZE) {
+            int to = Math.min(bytes.length, from + BLOCK_SIZE);
+            if (generator.nextDouble() < repeatedRatio) {
+                System.arraycopy(repeatedBlock, 0, bytes, from, to - from);
+            } else {
+                nextBytes(bytes, from, to);
+            }
+        }
         return bytes;
     }
+
+    /** {@inheritDoc} **/
+    @Override
+    public boolean reusesRecords() {
+        return reuse;
+    }
+
+    // like RandomGenerator#nextBytes(byte[]), for a range of the array
+    private void nextBytes(final byte[] bytes, final int from, final int to) {
+        int i = from;
+        for (int words = (to - from) >> 3; words-- > 0; ) {
+            long value = generator.nextLong();
+            for (int n = 0; n < Long.BYTES; n++, value >>>= Byte.SIZE) {
+                bytes[i++] = (byte) value;
+            }
+        }
+        if (i < to) {
+            for (long value = generator.nextLong(); i < to; value >>>= Byte.SIZE) {
+                bytes[i++] = (byte) value;
+            }
+        }
+    }
+
+    /**
+     * The algorithms generating random bytes.
+     */
+    @Getter
+    public enum Algorithm {
+        L64X128_MIX_RANDOM("L64X128MixRandom"),
+        L64X256_MIX_RANDOM("L64X256MixRandom"),
+        XOSHIRO256_PLUS_PLUS("Xoshiro256PlusPlus"),
+        XOROSHIRO128_PLUS_PLUS("Xoroshiro128PlusPlus"),
+        SECURE("SecureRandom");
+
+        private final String name;
+
+        Algorithm(String name) {
+            this.name = name;
+        }
+    }
 }
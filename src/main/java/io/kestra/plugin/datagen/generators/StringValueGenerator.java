@@ -7,21 +7,24 @@ import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.annotations.PluginProperty;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContext;
-import io.kestra.plugin.datagen.internal.Fakers;
+import io.kestra.plugin.datagen.internal.FakerExpressions;
+import io.kestra.plugin.datagen.internal.Templates;
+import io.kestra.plugin.datagen.internal.ValuePool;
 import io.kestra.plugin.datagen.model.DataGenerator;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.AccessLevel;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
-import net.datafaker.Faker;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 @Schema(
     title = "Generate strings from templates",
-    description = "Renders the `value` string (Pebble) and then evaluates [Datafaker expressions](https://www.datafaker.net/documentation/expressions/) like `#{name.firstName}` for each record. Locale list overrides Faker locale; empty list uses the library default."
+    description = "Renders the `value` string (Pebble) and then evaluates [Datafaker expressions](https://www.datafaker.net/documentation/expressions/) like `#{name.firstName}` for each record. Rendering is skipped when the value contains no Pebble syntax. Locale list overrides Faker locale; empty list uses the library default."
 )
 @Plugin
 @NoArgsConstructor
@@ -45,22 +48,62 @@ public final class StringValueGenerator extends DataGenerator<String> {
     @PluginProperty(group = "advanced")
     private Property<List<String>> locale;
 
+    @Schema(
+        title = "Value pool size",
+        description = "When set, each Datafaker expression generates this number of distinct values once, then every record samples one of them instead of calling Datafaker. This trades variety for throughput; values rendered by Pebble are not pooled. Parallel workers sample the same pool."
+    )
+    @PluginProperty(group = "advanced")
+    private Property<Integer> poolSize;
+
+    @Schema(
+        title = "Value pool skew",
+        description = "Exponent of the Zipf distribution used to sample pooled values, so that the first generated values are the most frequent; 0 samples values uniformly."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Double> poolSkew = Property.ofValue(0.0);
+
     @Getter(AccessLevel.NONE)
-    private Faker faker;
+    private FakerExpressions expressions;
+
+    @Getter(AccessLevel.NONE)
+    private Supplier<String> compiledValue;
 
     /** {@inheritDoc} **/
     @Override
     public void init(RunContext runContext) throws IllegalVariableEvaluationException {
         super.init(runContext);
-        this.faker = Fakers.create(runContext.render(this.locale).asList(String.class));
+        this.expressions = createFakerExpressions(runContext.render(this.locale).asList(String.class));
+        if (!Templates.containsPebble(value)) {
+            this.compiledValue = Templates.containsFakerExpression(value) ? expressions.compile(value) : () -> value;
+            Integer rPoolSize = runContext.render(this.poolSize).as(Integer.class).orElse(null);
+            if (rPoolSize != null && Templates.containsFakerExpression(value)) {
+                Double rPoolSkew = runContext.render(this.poolSkew).as(Double.class).orElse(0.0);
+                this.compiledValue = isSharingState()
+                    ? ValuePool.empty(this.random)
+                    : ValuePool.of(this.compiledValue, rPoolSize, rPoolSkew, this.random);
+            }
+        }
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public void shareState(DataGenerator<?> generator) {
+        super.shareState(generator);
+        if (compiledValue instanceof ValuePool pool) {
+            pool.share((ValuePool) ((StringValueGenerator) generator).compiledValue);
+        }
     }
 
     /** {@inheritDoc} **/
     @Override
     public String produce() {
+        if (compiledValue != null) {
+            return compiledValue.get();
+        }
         try {
             // because Property rendering is cached we can't use it directly
-            return Fakers.evaluate(faker, runContext.render(value));
+            return expressions.evaluate(render(value));
         } catch (IllegalVariableEvaluationException e) {
             throw new KestraRuntimeException("Failed to generate data", e);
         }
@@ -0,0 +1,295 @@
+package io.kestra.plugin.datagen.generators;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.datagen.model.ColumnBatch;
+import io.kestra.plugin.datagen.model.DataGenerator;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.LockSupport;
+
+@Schema(
+    title = "Generate time-series events on a simulated clock",
+    description = "Produces events of `series` interleaved time series, e.g. devices: the record at index `n` belongs to the series `n % series` and is timestamped `start + (n / series) * step`, plus an optional random `jitter`. Timestamps are computed from the record index as epoch milliseconds, independently of the wall clock, so any time range can be backfilled at full speed. With `speed`, events are paced on a virtual clock running `speed` times faster than real time, to replay events in real time or accelerated, e.g. with a `RealtimeTrigger`. Other fields are produced by `generators`."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            code = """
+            id: datagen_sensors
+            namespace: com.example.datagen
+
+            tasks:
+              - id: datagen
+                type: io.kestra.plugin.datagen.core.Generate
+                store: true
+                format: PARQUET
+                batchSize: 864000000
+                generator:
+                  type: io.kestra.plugin.datagen.generators.TimeSeriesGenerator
+                  start: "2024-01-01T00:00:00Z"
+                  step: PT1S
+                  jitter: PT0.2S
+                  series: 10000
+                  generators:
+                    temperature:
+                      type: io.kestra.plugin.datagen.generators.NumberGenerator
+                      distribution: NORMAL
+                      mean: 21.5
+                      stddev: 2
+            """
+        )
+    }
+)
+@NoArgsConstructor
+@SuperBuilder
+@JsonDeserialize
+@Getter
+public final class TimeSeriesGenerator extends DataGenerator<Map<String, Object>> {
+
+    @Schema(
+        title = "Start time",
+        description = "Timestamp of the first event of each series, e.g. `2024-01-01T00:00:00Z`; required when a `seed` is set, so that timestamps are reproducible. Defaults to the time the generator is initialized, shared by the workers of a parallel generation."
+    )
+    @PluginProperty(group = "main")
+    private Property<Instant> start;
+
+    @Schema(
+        title = "Step",
+        description = "Duration between two consecutive events of a series, at least one millisecond; defaults to one second."
+    )
+    @Builder.Default
+    @PluginProperty(group = "main")
+    private Property<Duration> step = Property.ofValue(Duration.ofSeconds(1));
+
+    @Schema(
+        title = "Jitter",
+        description = "Maximum random deviation added to or subtracted from each timestamp; defaults to no jitter."
+    )
+    @PluginProperty(group = "main")
+    private Property<Duration> jitter;
+
+    @Schema(
+        title = "Number of series",
+        description = "Number of interleaved series, e.g. devices; defaults to 1."
+    )
+    @Builder.Default
+    @PluginProperty(group = "main")
+    private Property<Integer> series = Property.ofValue(1);
+
+    @Schema(
+        title = "Clock speed",
+        description = "When set, events are paced on a virtual clock starting at `start` and running `speed` times faster than real time, e.g. `1` to replay events in real time or `60` to replay one minute per second. Events are produced as fast as possible when not set. Paced events are produced one record at a time, never by column batches."
+    )
+    @PluginProperty(group = "execution")
+    private Property<Double> speed;
+
+    @Schema(
+        title = "Timestamp field",
+        description = "Name of the timestamp field; defaults to `timestamp`."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<String> timestampField = Property.ofValue("timestamp");
+
+    @Schema(
+        title = "Series field",
+        description = "Name of the field holding the index of the series, from 0; defaults to `series`."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<String> seriesField = Property.ofValue("series");
+
+    @Schema(
+        title = "Field generators",
+        description = "Map of field names to generators producing the other fields of each event, e.g. a `NumberGenerator` for a measure. When a `seed` is set, generators without their own seed are seeded from it."
+    )
+    @PluginProperty(group = "main")
+    private Map<String, DataGenerator<?>> generators;
+
+    @Getter(AccessLevel.NONE)
+    private long startMillis;
+
+    @Getter(AccessLevel.NONE)
+    private long stepMillis;
+
+    @Getter(AccessLevel.NONE)
+    private long jitterMillis;
+
+    @Getter(AccessLevel.NONE)
+    private int seriesCount;
+
+    @Getter(AccessLevel.NONE)
+    private double clockSpeed;
+
+    @Getter(AccessLevel.NONE)
+    private long clockStartNanos;
+
+    @Getter(AccessLevel.NONE)
+    private String[] names;
+
+    @Getter(AccessLevel.NONE)
+    private DataGenerator<?>[] fieldGenerators;
+
+    @Getter(AccessLevel.NONE)
+    private long index;
+
+    /** {@inheritDoc} **/
+    @Override
+    public void init(RunContext runContext) throws IllegalVariableEvaluationException {
+        super.init(runContext);
+        Optional<Instant> rStart = runContext.render(this.start).as(Instant.class);
+        if (rStart.isEmpty() && isSeeded()) {
+            throw new IllegalArgumentException("Invalid value for property 'start': required when a 'seed' is set, so that timestamps are reproducible.");
+        }
+        this.startMillis = rStart.orElseGet(Instant::now).toEpochMilli();
+        this.stepMillis = runContext.render(this.step).as(Duration.class).orElse(Duration.ofSeconds(1)).toMillis();
+        this.jitterMillis = runContext.render(this.jitter).as(Duration.class).orElse(Duration.ZERO).toMillis();
+        this.seriesCount = runContext.render(this.series).as(Integer.class).orElse(1);
+        this.clockSpeed = runContext.render(this.speed).as(Double.class).orElse(0.0);
+        if (stepMillis <= 0) {
+            throw new IllegalArgumentException("Invalid value for property 'step': must be at least one millisecond.");
+        }
+        if (jitterMillis < 0 || seriesCount <= 0 || clockSpeed < 0) {
+            throw new IllegalArgumentException("Invalid time series: 'jitter', 'series' and 'speed' must be positive.");
+        }
+        this.clockStartNanos = System.nanoTime();
+        this.index = 0L;
+
+        Map<String, DataGenerator<?>> components = this.generators != null ? this.generators : Map.of();
+        this.names = new String[components.size() + 2];
+        this.names[0] = runContext.render(this.timestampField).as(String.class).orElse("timestamp");
+        this.names[1] = runContext.render(this.seriesField).as(String.class).orElse("series");
+        this.fieldGenerators = new DataGenerator<?>[components.size()];
+        int i = 0;
+        for (Map.Entry<String, DataGenerator<?>> entry : components.entrySet()) {
+            this.names[i + 2] = entry.getKey();
+            this.fieldGenerators[i] = entry.getValue();
+            initComponent(entry.getValue(), i);
+            i++;
+        }
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public void seek(long index) {
+        super.seek(index);
+        this.index = index;
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public Map<String, Object> produce() {
+        long timestamp = timestamp(index);
+        await(timestamp);
+        Map<String, Object> record = LinkedHashMap.newLinkedHashMap(names.length);
+        record.put(names[0], Instant.ofEpochMilli(timestamp));
+        record.put(names[1], index % seriesCount);
+        for (int i = 0; i < fieldGenerators.length; i++) {
+            record.put(names[i + 2], fieldGenerators[i].produce());
+        }
+        index++;
+        return record;
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public void shareState(DataGenerator<?> generator) {
+        super.shareState(generator);
+        TimeSeriesGenerator other = (TimeSeriesGenerator) generator;
+        // copies are initialized one after the other, but must produce the same timestamps on the same clock
+        this.startMillis = other.startMillis;
+        this.clockStartNanos = other.clockStartNanos;
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public boolean supportsColumnBatches() {
+        // paced events must be released one by one, so that a batch does not wait for its last timestamp
+        return clockSpeed <= 0;
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public ColumnBatch produceBatch(long firstIndex, int size) {
+        ColumnBatch.Type[] types = new ColumnBatch.Type[names.length];
+        Object[] columns = new Object[names.length];
+        types[0] = ColumnBatch.Type.TIMESTAMP_MILLIS;
+        types[1] = ColumnBatch.Type.LONG;
+        for (int i = 2; i < names.length; i++) {
+            types[i] = fieldGenerators[i - 2].columnType();
+        }
+        for (int i = 0; i < names.length; i++) {
+            columns[i] = types[i].newColumn(size);
+        }
+
+        long[] timestamps = (long[]) columns[0];
+        long[] series = (long[]) columns[1];
+        for (int row = 0; row < size; row++) {
+            long recordIndex = firstIndex + row;
+            seek(recordIndex);
+            timestamps[row] = timestamp(recordIndex);
+            series[row] = recordIndex % seriesCount;
+            for (int i = 0; i < fieldGenerators.length; i++) {
+                fieldGenerators[i].fillColumn(columns[i + 2], row);
+            }
+            await(timestamps[row]);
+        }
+        this.index = firstIndex + size;
+        return new ColumnBatch(names, types, columns, size);
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public Optional<Object> shape() {
+        if (names == null) {
+            return Optional.empty();
+        }
+        Map<String, Object> shape = LinkedHashMap.newLinkedHashMap(names.length);
+        shape.put(names[0], Instant.EPOCH);
+        shape.put(names[1], 0L);
+        for (int i = 0; i < fieldGenerators.length; i++) {
+            shape.put(names[i + 2], fieldGenerators[i].shape().orElse(null));
+        }
+        return Optional.of(shape);
+    }
+
+    private long timestamp(final long recordIndex) {
+        long timestamp = startMillis + (recordIndex / seriesCount) * stepMillis;
+        if (jitterMillis > 0) {
+            timestamp += random.nextLong(-jitterMillis, jitterMillis + 1);
+        }
+        return timestamp;
+    }
+
+    // waits for the virtual clock to reach the given timestamp
+    private void await(final long timestamp) {
+        if (clockSpeed <= 0) {
+            return;
+        }
+        long dueNanos = clockStartNanos + (long) ((timestamp - startMillis) * 1_000_000.0 / clockSpeed);
+        long waitNanos;
+        while ((waitNanos = dueNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(waitNanos);
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+        }
+    }
+}
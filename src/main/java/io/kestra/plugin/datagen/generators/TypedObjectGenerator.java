@@ -0,0 +1,466 @@
+package io.kestra.plugin.datagen.generators;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.datagen.internal.FakerExpressions;
+import io.kestra.plugin.datagen.internal.UniqueValues;
+import io.kestra.plugin.datagen.internal.ValuePool;
+import io.kestra.plugin.datagen.model.ColumnBatch;
+import io.kestra.plugin.datagen.model.DataGenerator;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import lombok.extern.jackson.Jacksonized;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@Schema(
+    title = "Generate typed records from a field schema",
+    description = "Produces one record per call with the declared fields, each generated with its native type (integer, floating-point, decimal, boolean, timestamp, UUID or string) instead of a string. Numeric, boolean, temporal and UUID values are drawn directly from the random source without Datafaker expressions; string fields are evaluated from a Datafaker expression. Typed values are encoded natively by the `ION`, `AVRO` and `PARQUET` formats."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            code = """
+            id: datagen_orders
+            namespace: com.example.datagen
+
+            tasks:
+              - id: datagen
+                type: io.kestra.plugin.datagen.core.Generate
+                store: true
+                batchSize: 100000
+                format: PARQUET
+                generator:
+                  type: io.kestra.plugin.datagen.generators.TypedObjectGenerator
+                  fields:
+                    - name: id
+                      type: UUID
+                    - name: customer
+                      type: STRING
+                      expression: "#{name.fullName}"
+                    - name: quantity
+                      type: INT
+                      min: 1
+                      max: 10
+                    - name: price
+                      type: DECIMAL
+                      min: 1
+                      max: 500
+                      scale: 2
+                    - name: paid
+                      type: BOOLEAN
+                    - name: createdAt
+                      type: TIMESTAMP
+            """
+        )
+    }
+)
+@NoArgsConstructor
+@SuperBuilder
+@JsonDeserialize
+@Getter
+public final class TypedObjectGenerator extends DataGenerator<Map<String, Object>> {
+
+    private static final String DEFAULT_EXPRESSION = "#{lorem.word}";
+    private static final int DEFAULT_SCALE = 2;
+    private static final Duration DEFAULT_TIMESTAMP_RANGE = Duration.ofDays(365);
+
+    @Schema(
+        title = "Fields",
+        description = "Fields of the generated records, in order."
+    )
+    @NotEmpty
+    @PluginProperty(group = "main")
+    private List<Field> fields;
+
+    @Schema(
+        title = "Locales",
+        description = "Optional locale list in the format [language, country, variant] for `STRING` fields; empty list uses Faker's default locale."
+    )
+    @PluginProperty(group = "advanced")
+    private Property<List<String>> locale;
+
+    @Schema(
+        title = "Unique values capacity",
+        description = "Expected number of values of each `unique` field, used to size the Bloom filter tracking seen values; defaults to 10000000, i.e. about 18 MiB per field with the default false-positive rate."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Long> uniqueCapacity = Property.ofValue(UniqueValues.DEFAULT_CAPACITY);
+
+    @Schema(
+        title = "Unique values false-positive rate",
+        description = "Probability that a new value of a `unique` field is wrongly considered as already generated, once `uniqueCapacity` values were generated; defaults to 0.001."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Double> uniqueFalsePositiveRate = Property.ofValue(UniqueValues.DEFAULT_FALSE_POSITIVE_RATE);
+
+    @Schema(
+        title = "Unique values maximum retries",
+        description = "Maximum number of times a value of a `unique` field is regenerated for a record before failing; defaults to 100."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> uniqueMaxRetries = Property.ofValue(UniqueValues.DEFAULT_MAX_RETRIES);
+
+    @Getter(AccessLevel.NONE)
+    private String[] names;
+
+    // null for fields which are not unique
+    @Getter(AccessLevel.NONE)
+    private UniqueValues[] uniqueValues;
+
+    @Getter(AccessLevel.NONE)
+    private FieldProducer[] producers;
+
+    /** {@inheritDoc} **/
+    @Override
+    public void init(RunContext runContext) throws IllegalVariableEvaluationException {
+        super.init(runContext);
+        FakerExpressions expressions = createFakerExpressions(runContext.render(this.locale).asList(String.class));
+        long rUniqueCapacity = runContext.render(this.uniqueCapacity).as(Long.class).orElse(UniqueValues.DEFAULT_CAPACITY);
+        double rUniqueFalsePositiveRate = runContext.render(this.uniqueFalsePositiveRate).as(Double.class).orElse(UniqueValues.DEFAULT_FALSE_POSITIVE_RATE);
+        int rUniqueMaxRetries = runContext.render(this.uniqueMaxRetries).as(Integer.class).orElse(UniqueValues.DEFAULT_MAX_RETRIES);
+        this.names = new String[fields.size()];
+        this.producers = new FieldProducer[fields.size()];
+        this.uniqueValues = new UniqueValues[fields.size()];
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < fields.size(); i++) {
+            Field field = fields.get(i);
+            this.names[i] = field.getName();
+            if (field.getType() == FieldType.TIMESTAMP && isSeeded() && (field.getMin() == null || field.getMax() == null)) {
+                // default bounds depend on the current time, so records would differ between runs
+                throw new IllegalArgumentException("Invalid range for field '%s': 'min' and 'max' are required for a TIMESTAMP field when a seed is set.".formatted(field.getName()));
+            }
+            this.producers[i] = producer(field, expressions, this.random, now);
+            if (runContext.render(field.getUnique()).as(Boolean.class).orElse(false)) {
+                this.uniqueValues[i] = new UniqueValues(field.getName(), rUniqueCapacity, rUniqueFalsePositiveRate, rUniqueMaxRetries);
+            }
+        }
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public boolean hasUniqueValues() {
+        for (UniqueValues unique : uniqueValues) {
+            if (unique != null) {
+                return true;
+            }
+        }
+        return super.hasUniqueValues();
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public void shareState(DataGenerator<?> generator) {
+        super.shareState(generator);
+        TypedObjectGenerator other = (TypedObjectGenerator) generator;
+        this.uniqueValues = other.uniqueValues;
+        for (int i = 0; i < producers.length; i++) {
+            // default timestamp bounds are relative to the time each copy was initialized
+            if (producers[i].type() == FieldType.TIMESTAMP) {
+                producers[i] = other.producers[i];
+            }
+            if (producers[i].expression() instanceof ValuePool pool) {
+                pool.share((ValuePool) other.producers[i].expression());
+            }
+        }
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public Map<String, Object> produce() {
+        Map<String, Object> record = LinkedHashMap.newLinkedHashMap(names.length);
+        for (int i = 0; i < names.length; i++) {
+            FieldProducer producer = producers[i];
+            Object value = producer.next(random);
+            if (uniqueValues[i] != null) {
+                value = uniqueValues[i].next(value, () -> producer.next(random));
+            }
+            record.put(names[i], value);
+        }
+        return record;
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public boolean supportsColumnBatches() {
+        return true;
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public ColumnBatch produceBatch(long firstIndex, int size) {
+        ColumnBatch.Type[] types = new ColumnBatch.Type[producers.length];
+        Object[] columns = new Object[producers.length];
+        for (int i = 0; i < producers.length; i++) {
+            types[i] = producers[i].columnType();
+            columns[i] = types[i].newColumn(size);
+        }
+        // filled record by record, so that seeded records are the same as the ones of produce(index)
+        for (int row = 0; row < size; row++) {
+            seek(firstIndex + row);
+            for (int i = 0; i < producers.length; i++) {
+                producers[i].fill(random, columns[i], row);
+                if (uniqueValues[i] != null) {
+                    fillUnique(i, columns[i], row);
+                }
+            }
+        }
+        return new ColumnBatch(names, types, columns, size);
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public Optional<Object> shape() {
+        if (producers == null) {
+            return Optional.empty();
+        }
+        Map<String, Object> shape = LinkedHashMap.newLinkedHashMap(producers.length);
+        for (int i = 0; i < producers.length; i++) {
+            shape.put(names[i], switch (producers[i].type()) {
+                case INT -> 0;
+                case LONG -> 0L;
+                case DOUBLE -> 0.0;
+                case BOOLEAN -> false;
+                case DECIMAL -> BigDecimal.ZERO.setScale(producers[i].scale());
+                case TIMESTAMP -> Instant.EPOCH;
+                case UUID -> new UUID(0L, 0L);
+                case STRING -> "";
+            });
+        }
+        return Optional.of(shape);
+    }
+
+    private void fillUnique(final int field, final Object column, final int row) {
+        UniqueValues unique = uniqueValues[field];
+        for (int retry = 0; !unique.add(producers[field].hash(column, row)); retry++) {
+            if (retry >= unique.maxRetries()) {
+                throw unique.exhausted();
+            }
+            producers[field].fill(random, column, row);
+        }
+    }
+
+    private FieldProducer producer(final Field field, final FakerExpressions expressions, final Random random, final long now) throws IllegalVariableEvaluationException {
+        Number rMin = runContext.render(field.getMin()).as(Number.class).orElse(null);
+        Number rMax = runContext.render(field.getMax()).as(Number.class).orElse(null);
+        return switch (field.getType()) {
+            case INT -> {
+                int min = rMin != null ? rMin.intValue() : 0;
+                int max = rMax != null ? rMax.intValue() : 1000;
+                checkRange(field, min < max);
+                yield new FieldProducer(FieldType.INT, min, max, 0, null);
+            }
+            case LONG -> {
+                long min = rMin != null ? rMin.longValue() : 0L;
+                long max = rMax != null ? rMax.longValue() : 1_000_000L;
+                checkRange(field, min < max);
+                yield new FieldProducer(FieldType.LONG, min, max, 0, null);
+            }
+            case DOUBLE -> {
+                double min = rMin != null ? rMin.doubleValue() : 0.0;
+                double max = rMax != null ? rMax.doubleValue() : 1.0;
+                checkRange(field, min < max);
+                yield new FieldProducer(FieldType.DOUBLE, Double.doubleToRawLongBits(min), Double.doubleToRawLongBits(max), 0, null);
+            }
+            case BOOLEAN -> new FieldProducer(FieldType.BOOLEAN, 0L, 0L, 0, null);
+            case DECIMAL -> {
+                int scale = runContext.render(field.getScale()).as(Integer.class).orElse(DEFAULT_SCALE);
+                long min = unscaled(rMin, 0, scale);
+                long max = unscaled(rMax, 1000, scale);
+                checkRange(field, min < max);
+                yield new FieldProducer(FieldType.DECIMAL, min, max, scale, null);
+            }
+            case TIMESTAMP -> {
+                long min = rMin != null ? rMin.longValue() : now - DEFAULT_TIMESTAMP_RANGE.toMillis();
+                long max = rMax != null ? rMax.longValue() : now;
+                checkRange(field, min < max);
+                yield new FieldProducer(FieldType.TIMESTAMP, min, max, 0, null);
+            }
+            case UUID -> new FieldProducer(FieldType.UUID, 0L, 0L, 0, null);
+            case STRING -> {
+                Supplier<String> expression = expressions.compile(field.getExpression() != null ? field.getExpression() : DEFAULT_EXPRESSION);
+                Integer rPoolSize = runContext.render(field.getPoolSize()).as(Integer.class).orElse(null);
+                if (rPoolSize != null) {
+                    Double rPoolSkew = runContext.render(field.getPoolSkew()).as(Double.class).orElse(0.0);
+                    expression = isSharingState() ? ValuePool.empty(random) : ValuePool.of(expression, rPoolSize, rPoolSkew, random);
+                }
+                yield new FieldProducer(FieldType.STRING, 0L, 0L, 0, expression);
+            }
+        };
+    }
+
+    private static long unscaled(final Number value, final long defaultValue, final int scale) {
+        BigDecimal decimal = value != null ? new BigDecimal(value.toString()) : BigDecimal.valueOf(defaultValue);
+        return decimal.movePointRight(scale).longValueExact();
+    }
+
+    private static void checkRange(final Field field, final boolean valid) {
+        if (!valid) {
+            throw new IllegalArgumentException("Invalid range for field '%s': 'min' must be lower than 'max'.".formatted(field.getName()));
+        }
+    }
+
+    /**
+     * Produces the values of a field, either boxed or into a column. Both draw the same values from the random source.
+     *
+     * @param type       the field type.
+     * @param min        the lower bound (inclusive); the raw bits of the bound for {@code DOUBLE}, the unscaled bound for {@code DECIMAL}.
+     * @param max        the upper bound (exclusive), encoded like {@code min}.
+     * @param scale      the scale of {@code DECIMAL} values.
+     * @param expression the expression of {@code STRING} values.
+     */
+    private record FieldProducer(FieldType type, long min, long max, int scale, Supplier<String> expression) {
+
+        ColumnBatch.Type columnType() {
+            return switch (type) {
+                case INT -> ColumnBatch.Type.INT;
+                case LONG -> ColumnBatch.Type.LONG;
+                case DOUBLE -> ColumnBatch.Type.DOUBLE;
+                case BOOLEAN -> ColumnBatch.Type.BOOLEAN;
+                case TIMESTAMP -> ColumnBatch.Type.TIMESTAMP_MILLIS;
+                case DECIMAL, UUID, STRING -> ColumnBatch.Type.OBJECT;
+            };
+        }
+
+        Object next(Random random) {
+            return switch (type) {
+                case INT -> random.nextInt((int) min, (int) max);
+                case LONG -> random.nextLong(min, max);
+                case DOUBLE -> random.nextDouble(Double.longBitsToDouble(min), Double.longBitsToDouble(max));
+                case BOOLEAN -> random.nextBoolean();
+                case TIMESTAMP -> Instant.ofEpochMilli(random.nextLong(min, max));
+                case DECIMAL, UUID, STRING -> nextObject(random);
+            };
+        }
+
+        void fill(Random random, Object column, int row) {
+            switch (type) {
+                case INT -> ((int[]) column)[row] = random.nextInt((int) min, (int) max);
+                case LONG, TIMESTAMP -> ((long[]) column)[row] = random.nextLong(min, max);
+                case DOUBLE -> ((double[]) column)[row] = random.nextDouble(Double.longBitsToDouble(min), Double.longBitsToDouble(max));
+                case BOOLEAN -> ((boolean[]) column)[row] = random.nextBoolean();
+                case DECIMAL, UUID, STRING -> ((Object[]) column)[row] = nextObject(random);
+            }
+        }
+
+        // same hash as UniqueValues#hash(Object) of the boxed value, without boxing primitive values
+        long hash(Object column, int row) {
+            return switch (type) {
+                case INT -> ((int[]) column)[row];
+                case LONG, TIMESTAMP -> ((long[]) column)[row];
+                case DOUBLE -> Double.doubleToLongBits(((double[]) column)[row]);
+                case BOOLEAN -> ((boolean[]) column)[row] ? 1L : 0L;
+                case DECIMAL, UUID, STRING -> UniqueValues.hash(((Object[]) column)[row]);
+            };
+        }
+
+        private Object nextObject(Random random) {
+            return switch (type) {
+                case DECIMAL -> BigDecimal.valueOf(random.nextLong(min, max), scale);
+                case UUID -> {
+                    // random (version 4) UUID drawn from the generator's random source, so that it can be seeded
+                    long msb = (random.nextLong() & ~0xF000L) | 0x4000L;
+                    long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+                    yield new UUID(msb, lsb);
+                }
+                case STRING -> expression.get();
+                default -> throw new IllegalStateException("Unexpected object type: " + type);
+            };
+        }
+    }
+
+    public enum FieldType {
+        INT,
+        LONG,
+        DOUBLE,
+        BOOLEAN,
+        DECIMAL,
+        TIMESTAMP,
+        UUID,
+        STRING
+    }
+
+    @Builder
+    @Jacksonized
+    @Getter
+    public static class Field {
+
+        @Schema(
+            title = "Field name"
+        )
+        @NotNull
+        private final String name;
+
+        @Schema(
+            title = "Field type"
+        )
+        @NotNull
+        private final FieldType type;
+
+        @Schema(
+            title = "Minimum value (inclusive)",
+            description = "For numeric types, defaults to 0; for `TIMESTAMP`, epoch milliseconds, defaults to one year before the generator is initialized, and is required when a `seed` is set."
+        )
+        private final Property<Number> min;
+
+        @Schema(
+            title = "Maximum value (exclusive)",
+            description = "Defaults to 1000 for `INT` and `DECIMAL`, 1000000 for `LONG`, 1 for `DOUBLE`; for `TIMESTAMP`, epoch milliseconds, defaults to the time the generator is initialized, and is required when a `seed` is set."
+        )
+        private final Property<Number> max;
+
+        @Schema(
+            title = "Decimal scale",
+            description = "Number of digits after the decimal point of `DECIMAL` values; defaults to 2."
+        )
+        private final Property<Integer> scale;
+
+        @Schema(
+            title = "Datafaker expression",
+            description = "Expression generating `STRING` values, e.g. `#{name.fullName}`; defaults to `#{lorem.word}`."
+        )
+        private final String expression;
+
+        @Schema(
+            title = "Value pool size",
+            description = "For `STRING` fields, generates this number of distinct values once, then samples one of them for each record instead of evaluating the expression."
+        )
+        private final Property<Integer> poolSize;
+
+        @Schema(
+            title = "Value pool skew",
+            description = "Exponent of the Zipf distribution used to sample pooled values, so that the first generated values are the most frequent; 0 or unset samples values uniformly."
+        )
+        private final Property<Double> poolSkew;
+
+        @Schema(
+            title = "Unique values",
+            description = "Whether the values of the field must be unique among the generated records; a value already generated is regenerated, see `uniqueMaxRetries`. Values are only unique within the records generated by one task run: the `Generate` task rejects unique fields with a `checkpointInterval`, an `offset`, or a seeded generator with a `parallelism` greater than 1."
+        )
+        private final Property<Boolean> unique;
+    }
+}
@@ -0,0 +1,91 @@
+package io.kestra.plugin.datagen.internal;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+
+/**
+ * Samples indexes from a discrete weighted distribution in constant time, using Vose's alias method.
+ */
+public final class AliasTable {
+
+    private final double[] probabilities;
+    private final int[] aliases;
+
+    /**
+     * Creates a new {@link AliasTable} instance.
+     *
+     * @param weights the non-negative weight of each index; at least one must be positive.
+     */
+    public AliasTable(final double[] weights) {
+        int n = weights.length;
+        double total = 0.0;
+        for (double weight : weights) {
+            if (weight < 0 || Double.isNaN(weight)) {
+                throw new IllegalArgumentException("Weights must be non-negative");
+            }
+            total += weight;
+        }
+        if (n == 0 || total <= 0) {
+            throw new IllegalArgumentException("At least one weight must be positive");
+        }
+
+        this.probabilities = new double[n];
+        this.aliases = new int[n];
+        double[] scaled = new double[n];
+        Deque<Integer> small = new ArrayDeque<>();
+        Deque<Integer> large = new ArrayDeque<>();
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            (scaled[i] < 1.0 ? small : large).push(i);
+        }
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.pop();
+            int more = large.pop();
+            probabilities[less] = scaled[less];
+            aliases[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            (scaled[more] < 1.0 ? small : large).push(more);
+        }
+        // remaining entries are 1 up to rounding errors
+        while (!large.isEmpty()) {
+            probabilities[large.pop()] = 1.0;
+        }
+        while (!small.isEmpty()) {
+            probabilities[small.pop()] = 1.0;
+        }
+    }
+
+    /**
+     * Creates an {@link AliasTable} following a Zipf distribution, where index {@code k} has a weight of {@code 1 / (k + 1)^exponent}.
+     *
+     * @param size     the number of indexes.
+     * @param exponent the exponent; 0 gives a uniform distribution.
+     * @return a new {@link AliasTable}.
+     */
+    public static AliasTable zipf(final int size, final double exponent) {
+        double[] weights = new double[size];
+        for (int k = 0; k < size; k++) {
+            weights[k] = 1.0 / Math.pow(k + 1, exponent);
+        }
+        return new AliasTable(weights);
+    }
+
+    /**
+     * @return the number of indexes.
+     */
+    public int size() {
+        return probabilities.length;
+    }
+
+    /**
+     * Samples an index.
+     *
+     * @param random the random source.
+     * @return an index between 0 (inclusive) and {@link #size()} (exclusive).
+     */
+    public int sample(final Random random) {
+        int i = random.nextInt(probabilities.length);
+        return random.nextDouble() < probabilities[i] ? i : aliases[i];
+    }
+}
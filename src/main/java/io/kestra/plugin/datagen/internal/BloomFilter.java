@@ -0,0 +1,85 @@
+package io.kestra.plugin.datagen.internal;
+
+/**
+ * A Bloom filter of 64-bit hashes, used to check that generated values are unique within a bounded memory.
+ *
+ * <p>The filter never reports an added value as absent, but reports an absent value as present with the
+ * configured false-positive rate once it holds its expected number of values; the rate increases beyond it.
+ * Instances are thread-safe, so that they can be shared by generators producing the same dataset.
+ */
+public final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final long[] words;
+    private final long bits;
+    private final int hashes;
+
+    /**
+     * Creates a new {@link BloomFilter} instance.
+     *
+     * @param expectedValues    the number of values the filter is sized for.
+     * @param falsePositiveRate the false-positive rate once the filter holds {@code expectedValues}, between 0 and 1 (exclusive).
+     */
+    public BloomFilter(final long expectedValues, final double falsePositiveRate) {
+        if (expectedValues <= 0) {
+            throw new IllegalArgumentException("The expected number of values must be greater than 0, but was: " + expectedValues);
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("The false-positive rate must be between 0 and 1, but was: " + falsePositiveRate);
+        }
+        long optimalBits = (long) Math.ceil(-expectedValues * Math.log(falsePositiveRate) / (LN2 * LN2));
+        long wordCount = Math.max(1L, (optimalBits + Long.SIZE - 1) / Long.SIZE);
+        if (wordCount > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many expected values for the false-positive rate: " + expectedValues);
+        }
+        this.words = new long[(int) wordCount];
+        this.bits = wordCount * Long.SIZE;
+        this.hashes = Math.max(1, (int) Math.round((double) bits / expectedValues * LN2));
+    }
+
+    /**
+     * Adds a value to the filter, unless it is (probably) already present.
+     *
+     * @param hash the 64-bit hash of the value, see {@link #hash(CharSequence)}.
+     * @return {@code true} if the value was added, {@code false} if it was already present or is a false positive.
+     */
+    public synchronized boolean add(final long hash) {
+        // double hashing, from two independent halves of the scrambled hash
+        long h = Seeds.mix(hash);
+        long h1 = h >>> 32;
+        long h2 = (h & 0xFFFFFFFFL) | 1L;
+        boolean added = false;
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bits);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            if ((words[word] & mask) == 0) {
+                words[word] |= mask;
+                added = true;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * @return the size of the filter in bytes.
+     */
+    public long sizeInBytes() {
+        return (long) words.length * Long.BYTES;
+    }
+
+    /**
+     * Hashes a string value, with the 64-bit FNV-1a hash function.
+     *
+     * @param value the value.
+     * @return the 64-bit hash.
+     */
+    public static long hash(final CharSequence value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+        }
+        return hash;
+    }
+}
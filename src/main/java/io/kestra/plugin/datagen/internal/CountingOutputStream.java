@@ -0,0 +1,45 @@
+package io.kestra.plugin.datagen.internal;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An {@link OutputStream} counting the bytes written to the underlying stream.
+ *
+ * <p>Flushes are not propagated: encoders above this stream can be flushed to get an exact count
+ * without pushing partial data through the buffering and compression layers below it.
+ * Buffered data is flushed when the stream is closed.
+ */
+public final class CountingOutputStream extends FilterOutputStream {
+
+    private long count = 0L;
+
+    public CountingOutputStream(final OutputStream out) {
+        super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        count += len;
+    }
+
+    @Override
+    public void flush() {
+        // not propagated
+    }
+
+    /**
+     * @return the number of bytes written so far.
+     */
+    public long getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,41 @@
+package io.kestra.plugin.datagen.internal;
+
+import net.datafaker.service.FakeValuesService;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A process-wide, least-recently-used cache of {@link FakeValuesService} by locale.
+ *
+ * <p>A {@link FakeValuesService} holds the locale data loaded from the Datafaker YAML resources, and
+ * the expressions it resolved; it holds no random state, so it can be shared by all fakers of a locale,
+ * each with its own random source.
+ */
+final class FakeValuesCache {
+
+    static final int MAX_LOCALES = 16;
+
+    private static final Map<Locale, FakeValuesService> SERVICES = new LinkedHashMap<>(MAX_LOCALES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Locale, FakeValuesService> eldest) {
+            return size() > MAX_LOCALES;
+        }
+    };
+
+    private FakeValuesCache() {
+    }
+
+    /**
+     * Gets the {@link FakeValuesService} of the given locale, creating it on first use.
+     *
+     * @param locale the locale.
+     * @return the shared {@link FakeValuesService}.
+     */
+    static FakeValuesService get(final Locale locale) {
+        synchronized (SERVICES) {
+            return SERVICES.computeIfAbsent(locale, ignored -> new FakeValuesService());
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package io.kestra.plugin.datagen.internal;
+
+import net.datafaker.Faker;
+import net.datafaker.providers.base.AbstractProvider;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Evaluates Datafaker expressions with a given {@link Faker}, compiling each expression once.
+ *
+ * <p>Simple expressions of the form {@code #{provider.method}} are resolved to a method handle
+ * bound to the provider instance of the {@link Faker}, so that evaluating them neither parses
+ * the expression nor resolves the provider reflectively. Other expressions are evaluated
+ * by the Datafaker expression engine.
+ *
+ * <p>Expressions are validated when they are compiled: an expression the engine cannot evaluate
+ * is reported once and compiled into a passthrough returning the expression itself, so that
+ * evaluating it does not throw for each record. Each value returned as is, instead of being
+ * evaluated, is counted as a fallback.
+ *
+ * <p>Instances are not thread-safe, like the {@link Faker} they wrap.
+ */
+public final class FakerExpressions {
+
+    private static final Pattern SIMPLE_EXPRESSION = Pattern.compile("#\\{([A-Za-z_][A-Za-z0-9_]*)\\.([A-Za-z_][A-Za-z0-9_]*)}");
+
+    // bounds memory when expressions are themselves generated, e.g. rendered by Pebble
+    private static final int MAX_CACHED_EXPRESSIONS = 1024;
+
+    private final Faker faker;
+    private final Consumer<String> onInvalidExpression;
+    private final Map<String, Supplier<String>> cache = new HashMap<>();
+    private long fallbacks = 0L;
+
+    /**
+     * Creates a new {@link FakerExpressions} instance.
+     *
+     * @param faker the {@link Faker} evaluating expressions.
+     */
+    public FakerExpressions(final Faker faker) {
+        this(faker, expression -> {});
+    }
+
+    /**
+     * Creates a new {@link FakerExpressions} instance.
+     *
+     * @param faker               the {@link Faker} evaluating expressions.
+     * @param onInvalidExpression the callback notified once for each expression that cannot be evaluated.
+     */
+    public FakerExpressions(final Faker faker, final Consumer<String> onInvalidExpression) {
+        this.faker = faker;
+        this.onInvalidExpression = onInvalidExpression;
+    }
+
+    /**
+     * @return the number of values returned as is because their expression could not be evaluated.
+     */
+    public long fallbacks() {
+        return fallbacks;
+    }
+
+    /**
+     * Evaluates the given expression.
+     *
+     * @param expression the expression.
+     * @return the evaluated value, or the expression itself if it cannot be evaluated.
+     */
+    public String evaluate(final String expression) {
+        Supplier<String> supplier = cache.get(expression);
+        if (supplier != null) {
+            return supplier.get();
+        }
+
+        String value;
+        Optional<Supplier<String>> resolved = resolve(expression);
+        if (resolved.isPresent()) {
+            supplier = resolved.get();
+            value = supplier.get();
+        } else {
+            // the first evaluation validates the expression
+            try {
+                value = faker.expression(expression);
+                supplier = engine(expression);
+            } catch (RuntimeException e) {
+                supplier = invalid(expression);
+                value = supplier.get();
+            }
+        }
+        if (cache.size() < MAX_CACHED_EXPRESSIONS) {
+            cache.put(expression, supplier);
+        }
+        return value;
+    }
+
+    /**
+     * Compiles and validates the given expression.
+     *
+     * @param expression the expression.
+     * @return a supplier evaluating the expression, or returning it as is if it is invalid.
+     */
+    public Supplier<String> compile(final String expression) {
+        return resolve(expression).orElseGet(() -> {
+            try {
+                faker.expression(expression);
+                return engine(expression);
+            } catch (RuntimeException e) {
+                return invalid(expression);
+            }
+        });
+    }
+
+    private Supplier<String> engine(final String expression) {
+        return () -> {
+            try {
+                return faker.expression(expression);
+            } catch (RuntimeException e) {
+                // only reached when a validated expression fails for some generated values
+                fallbacks++;
+                return expression;
+            }
+        };
+    }
+
+    private Supplier<String> invalid(final String expression) {
+        onInvalidExpression.accept(expression);
+        return () -> {
+            fallbacks++;
+            return expression;
+        };
+    }
+
+    private Optional<Supplier<String>> resolve(final String expression) {
+        Matcher matcher = SIMPLE_EXPRESSION.matcher(expression);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        try {
+            Optional<Method> providerMethod = findMethod(faker.getClass(), matcher.group(1), AbstractProvider.class);
+            if (providerMethod.isEmpty()) {
+                return Optional.empty();
+            }
+            // providers are cached by the faker, so they can be bound once
+            Object provider = providerMethod.get().invoke(faker);
+            Optional<Method> valueMethod = findMethod(provider.getClass(), matcher.group(2), Object.class);
+            if (valueMethod.isEmpty()) {
+                return Optional.empty();
+            }
+            MethodHandle handle = MethodHandles.publicLookup().unreflect(valueMethod.get()).bindTo(provider);
+            return Optional.of(() -> {
+                try {
+                    return String.valueOf(handle.invoke());
+                } catch (Throwable e) {
+                    fallbacks++;
+                    return expression;
+                }
+            });
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Method> findMethod(final Class<?> type, final String name, final Class<?> returnType) {
+        String normalized = normalize(name);
+        for (Method method : type.getMethods()) {
+            if (method.getParameterCount() == 0
+                && !Modifier.isStatic(method.getModifiers())
+                && method.getDeclaringClass() != Object.class
+                && method.getReturnType() != void.class
+                && returnType.isAssignableFrom(method.getReturnType())
+                && normalize(method.getName()).equals(normalized)) {
+                return Optional.of(method);
+            }
+        }
+        return Optional.empty();
+    }
+
+    // Datafaker accepts both `firstName` and `first_name`, in any case
+    private static String normalize(final String name) {
+        return name.replace("_", "").toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,11 +1,12 @@
 package io.kestra.plugin.datagen.internal;
 
 import net.datafaker.Faker;
+import net.datafaker.service.FakerContext;
+import net.datafaker.service.RandomService;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
+import java.util.Random;
 
 /**
  * Utilities for {@link Faker} library.
@@ -13,58 +14,30 @@ import java.util.Map;
 public interface Fakers {
 
     static Faker create(final List<String> locale) {
-        Faker faker;
-        if (locale.isEmpty()) {
-            faker = new Faker();
-        } else {
-            switch (locale.size()) {
-                case 1 -> faker = new Faker(Locale.of(locale.get(0)));
-                case 2 -> faker = new Faker(Locale.of(locale.get(0), locale.get(1)));
-                case 3 -> faker = new Faker(Locale.of(locale.get(0), locale.get(1), locale.get(2)));
-                default -> throw new IllegalArgumentException("Invalid value for property 'locale'. Expected format: [language, country, variant], but received: %s.".formatted(locale));
-            }
-        }
-        return faker;
+        return create(locale, new Random());
     }
 
-    @SuppressWarnings("unchecked")
-    static Map<String, Object> evaluate(Faker faker, Map<String, Object> map) {
-        for (Map.Entry<String, Object> entry : map.entrySet()) {
-            Object value = entry.getValue();
-
-            if (value instanceof String) {
-                String str = (String) value;
-                if (str.startsWith("#{")) {
-                    try {
-                        entry.setValue(evaluate(faker, str));
-                    } catch (Exception ignored) {
-                        /* silently ignored */
-                    }
-                }
-            } else if (value instanceof Map) {
-                // Recursive call for nested maps
-                evaluate(faker, (Map<String, Object>) value);
-            } else if (value instanceof List<?> list) {
-                // Evaluate strings in lists
-                List<Object> evaluatedList = new ArrayList<>();
-                for (Object item : list) {
-                    if (item instanceof String && ((String) item).startsWith("#{")) {
-                        evaluatedList.add(evaluate(faker, (String)item));
-                    } else {
-                        evaluatedList.add(item);
-                    }
-                }
-                entry.setValue(evaluatedList);
-            }
-        }
-        return map;
-    }
-
-    static String evaluate(Faker faker, String expression) {
-        try {
-            return faker.expression(expression);
-        } catch (Exception e) {
-           return expression;
-        }
+    /**
+     * Creates a {@link Faker} drawing all its values from the given {@link Random},
+     * so that re-seeding the random re-seeds the faker.
+     *
+     * <p>The locale data is shared by all the fakers of the same locale in the process, so that
+     * creating a faker does not load it again, e.g. on each evaluation of a polling trigger.
+     * The random state is never shared.
+     *
+     * @param locale the locale, in the format [language, country, variant]; empty for the default locale.
+     * @param random the random source.
+     * @return a new {@link Faker}.
+     */
+    static Faker create(final List<String> locale, final Random random) {
+        Locale rLocale = switch (locale.size()) {
+            // Datafaker's default locale
+            case 0 -> Locale.ENGLISH;
+            case 1 -> Locale.of(locale.get(0));
+            case 2 -> Locale.of(locale.get(0), locale.get(1));
+            case 3 -> Locale.of(locale.get(0), locale.get(1), locale.get(2));
+            default -> throw new IllegalArgumentException("Invalid value for property 'locale'. Expected format: [language, country, variant], but received: %s.".formatted(locale));
+        };
+        return new Faker(FakeValuesCache.get(rLocale), new FakerContext(rLocale, new RandomService(random)));
     }
 }
@@ -0,0 +1,167 @@
+package io.kestra.plugin.datagen.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Samples ranks in {@code [0, cardinality)} with a controlled skew, rank 0 being the most frequent one,
+ * without materializing the key space.
+ *
+ * <p>Ranks are grouped into buckets: a bucket is picked from an {@link AliasTable} in constant time, then a rank
+ * is drawn within the bucket, either uniformly or by inverting the continuous power law of a Zipf distribution.
+ * Zipf distributions use one bucket per rank for the head of the distribution, which holds most of the traffic,
+ * and geometrically growing buckets for the tail, so that billions of keys only take a few hundred buckets.
+ */
+public final class KeySampler {
+
+    // ranks of the head of a Zipf distribution, sampled exactly
+    private static final int ZIPF_HEAD = 1024;
+
+    // growth of the tail buckets of a Zipf distribution
+    private static final double ZIPF_BUCKET_GROWTH = 1.05;
+
+    private final long cardinality;
+    private final long hotKeys;
+    private final long[] starts;
+    private final long[] sizes;
+    private final double exponent;
+    private final AliasTable buckets;
+
+    private KeySampler(final long cardinality, final long hotKeys, final long[] starts, final long[] sizes,
+                       final double[] weights, final double exponent) {
+        this.cardinality = cardinality;
+        this.hotKeys = hotKeys;
+        this.starts = starts;
+        this.sizes = sizes;
+        this.exponent = exponent;
+        this.buckets = new AliasTable(weights);
+    }
+
+    /**
+     * @param cardinality the number of keys.
+     * @return a {@link KeySampler} picking all keys with the same probability.
+     */
+    public static KeySampler uniform(final long cardinality) {
+        checkCardinality(cardinality);
+        return new KeySampler(cardinality, cardinality, new long[]{0L}, new long[]{cardinality}, new double[]{1.0}, 0.0);
+    }
+
+    /**
+     * Creates a {@link KeySampler} where a fraction of the keys receives a fraction of the traffic,
+     * e.g. 1% of the keys receiving 50% of the traffic.
+     *
+     * @param cardinality  the number of keys.
+     * @param keyRatio     the fraction of hot keys, between 0 and 1.
+     * @param trafficRatio the fraction of the traffic going to hot keys, between 0 and 1.
+     * @return a new {@link KeySampler}.
+     */
+    public static KeySampler hotspot(final long cardinality, final double keyRatio, final double trafficRatio) {
+        checkCardinality(cardinality);
+        if (!(keyRatio > 0 && keyRatio <= 1) || !(trafficRatio >= 0 && trafficRatio <= 1)) {
+            throw new IllegalArgumentException("Hot key and traffic ratios must be between 0 and 1");
+        }
+        long hot = Math.clamp(Math.round(cardinality * keyRatio), 1L, cardinality);
+        if (hot == cardinality) {
+            return uniform(cardinality);
+        }
+        return new KeySampler(cardinality, hot, new long[]{0L, hot}, new long[]{hot, cardinality - hot},
+            new double[]{trafficRatio, 1.0 - trafficRatio}, 0.0);
+    }
+
+    /**
+     * Creates a {@link KeySampler} following a Zipf distribution, where the key of rank {@code k} (from 0)
+     * has a probability proportional to {@code 1 / (k + 1)^exponent}.
+     *
+     * @param cardinality the number of keys.
+     * @param exponent    the exponent, greater than 0.
+     * @return a new {@link KeySampler}.
+     */
+    public static KeySampler zipf(final long cardinality, final double exponent) {
+        checkCardinality(cardinality);
+        if (!(exponent > 0)) {
+            throw new IllegalArgumentException("The Zipf exponent must be greater than 0, but was: " + exponent);
+        }
+        List<long[]> bounds = new ArrayList<>();
+        long head = Math.min(cardinality, ZIPF_HEAD);
+        for (long rank = 0; rank < head; rank++) {
+            bounds.add(new long[]{rank, 1L});
+        }
+        for (long start = head; start < cardinality; ) {
+            long size = Math.min(cardinality - start, Math.max(1L, (long) (start * (ZIPF_BUCKET_GROWTH - 1))));
+            bounds.add(new long[]{start, size});
+            start += size;
+        }
+
+        long[] starts = new long[bounds.size()];
+        long[] sizes = new long[bounds.size()];
+        double[] weights = new double[bounds.size()];
+        for (int i = 0; i < bounds.size(); i++) {
+            starts[i] = bounds.get(i)[0];
+            sizes[i] = bounds.get(i)[1];
+            // values k + 1 in [start + 1, start + size], approximated by the integral of the power law over [start + 0.5, start + size + 0.5]
+            weights[i] = sizes[i] == 1
+                ? Math.pow(starts[i] + 1, -exponent)
+                : integral(starts[i] + 0.5, starts[i] + sizes[i] + 0.5, exponent);
+        }
+        return new KeySampler(cardinality, head, starts, sizes, weights, exponent);
+    }
+
+    /**
+     * @return the number of keys.
+     */
+    public long cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * @return the number of keys receiving most of the traffic, i.e. the size of the hotspot.
+     */
+    public long hotKeys() {
+        return hotKeys;
+    }
+
+    /**
+     * Samples a rank.
+     *
+     * @param random the random source.
+     * @return a rank between 0 (inclusive) and {@link #cardinality()} (exclusive).
+     */
+    public long nextRank(final Random random) {
+        int bucket = buckets.sample(random);
+        long size = sizes[bucket];
+        if (size == 1) {
+            return starts[bucket];
+        }
+        if (exponent == 0.0) {
+            return starts[bucket] + random.nextLong(size);
+        }
+        // inverse of the power law over the bucket
+        double lo = starts[bucket] + 0.5;
+        double hi = starts[bucket] + size + 0.5;
+        double u = random.nextDouble();
+        double x;
+        if (exponent == 1.0) {
+            x = lo * Math.pow(hi / lo, u);
+        } else {
+            double a = Math.pow(lo, 1 - exponent);
+            double b = Math.pow(hi, 1 - exponent);
+            x = Math.pow(a + u * (b - a), 1 / (1 - exponent));
+        }
+        long offset = (long) (x - lo);
+        return starts[bucket] + Math.clamp(offset, 0L, size - 1);
+    }
+
+    private static double integral(final double lo, final double hi, final double exponent) {
+        if (exponent == 1.0) {
+            return Math.log(hi / lo);
+        }
+        return (Math.pow(hi, 1 - exponent) - Math.pow(lo, 1 - exponent)) / (1 - exponent);
+    }
+
+    private static void checkCardinality(final long cardinality) {
+        if (cardinality <= 0) {
+            throw new IllegalArgumentException("The cardinality must be greater than 0, but was: " + cardinality);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package io.kestra.plugin.datagen.internal;
+
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.runners.RunContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * An object template compiled into an evaluation plan.
+ *
+ * <p>The template is analysed once: values without Pebble or Datafaker expressions become constants
+ * shared by all evaluations, Datafaker expressions are compiled with {@link FakerExpressions},
+ * and only the dynamic leaves are evaluated for each object.
+ * Evaluation produces the same result as rendering the whole template with Pebble then
+ * evaluating the Datafaker expressions of its values, including the ones of nested maps and lists.
+ */
+public final class ObjectTemplate {
+
+    private final MapNode root;
+    private final FakerExpressions expressions;
+
+    private ObjectTemplate(final MapNode root, final FakerExpressions expressions) {
+        this.root = root;
+        this.expressions = expressions;
+    }
+
+    /**
+     * Compiles the given template.
+     *
+     * @param template    the object template.
+     * @param expressions the {@link FakerExpressions} evaluating Datafaker expressions.
+     * @return a new {@link ObjectTemplate}.
+     */
+    public static ObjectTemplate compile(final Map<String, Object> template, final FakerExpressions expressions) {
+        return compile(template, expressions, (field, expression) -> expression);
+    }
+
+    /**
+     * Compiles the given template, decorating the supplier of each Datafaker expression, e.g. with a {@link ValuePool}.
+     * Expressions rendered by Pebble are not decorated, as they are only known for each object.
+     *
+     * @param template    the object template.
+     * @param expressions the {@link FakerExpressions} evaluating Datafaker expressions.
+     * @param decorator   the {@link Decorator} of the compiled Datafaker expressions.
+     * @return a new {@link ObjectTemplate}.
+     */
+    public static ObjectTemplate compile(final Map<String, Object> template,
+                                         final FakerExpressions expressions,
+                                         final Decorator decorator) {
+        List<Node> keys = new ArrayList<>(template.size());
+        List<Node> values = new ArrayList<>(template.size());
+        for (Map.Entry<String, Object> entry : template.entrySet()) {
+            Node key = compile(entry.getKey(), false, expressions, decorator, null);
+            String field = key instanceof Constant constant ? (String) constant.value() : null;
+            keys.add(key);
+            values.add(compile(entry.getValue(), true, expressions, decorator, field));
+        }
+        return new ObjectTemplate(new MapNode(keys.toArray(Node[]::new), values.toArray(Node[]::new)), expressions);
+    }
+
+    /**
+     * Evaluates this template.
+     *
+     * @param renderer the {@link Renderer} rendering Pebble expressions.
+     * @return a new object; constant sub-objects are shared between evaluations.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> evaluate(final Renderer renderer) throws IllegalVariableEvaluationException {
+        return (Map<String, Object>) root.evaluate(expressions, renderer);
+    }
+
+    /**
+     * Evaluates the value of a single top-level field of this template, e.g. to regenerate it.
+     *
+     * @param key      the field name.
+     * @param renderer the {@link Renderer} rendering Pebble expressions.
+     * @return the evaluated value.
+     * @throws IllegalArgumentException if the template has no such field, or its name is not constant.
+     */
+    public Object evaluateValue(final String key, final Renderer renderer) throws IllegalVariableEvaluationException {
+        for (int i = 0; i < root.keys().length; i++) {
+            if (root.keys()[i] instanceof Constant constant && key.equals(constant.value())) {
+                return root.values()[i].evaluate(expressions, renderer);
+            }
+        }
+        throw new IllegalArgumentException("Unknown field: '%s'".formatted(key));
+    }
+
+    /**
+     * @param key the field name.
+     * @return {@code true} if this template has a top-level field with the given constant name.
+     */
+    public boolean hasField(final String key) {
+        for (Node node : root.keys()) {
+            if (node instanceof Constant constant && key.equals(constant.value())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Renders the Pebble expressions of a template, e.g. with {@link RunContext#render(String)}.
+     */
+    @FunctionalInterface
+    public interface Renderer {
+
+        String render(String template) throws IllegalVariableEvaluationException;
+    }
+
+    /**
+     * Decorates the compiled Datafaker expressions of a template, e.g. with a {@link ValuePool}.
+     */
+    @FunctionalInterface
+    public interface Decorator {
+
+        /**
+         * @param field      the top-level field the expression belongs to, or {@code null} if the field name is rendered by Pebble.
+         * @param expression the compiled expression.
+         * @return the decorated expression.
+         */
+        Supplier<String> decorate(String field, Supplier<String> expression);
+    }
+
+    private static MapNode compileMap(final Map<?, ?> map,
+                                      final boolean withFaker,
+                                      final FakerExpressions expressions,
+                                      final Decorator decorator,
+                                      final String field) {
+        List<Node> keys = new ArrayList<>(map.size());
+        List<Node> values = new ArrayList<>(map.size());
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            // keys are only rendered by Pebble
+            keys.add(compile(entry.getKey(), false, expressions, decorator, field));
+            values.add(compile(entry.getValue(), withFaker, expressions, decorator, field));
+        }
+        return new MapNode(keys.toArray(Node[]::new), values.toArray(Node[]::new));
+    }
+
+    private static Node compile(final Object value,
+                                final boolean withFaker,
+                                final FakerExpressions expressions,
+                                final Decorator decorator,
+                                final String field) {
+        if (value instanceof String str) {
+            if (Templates.containsPebble(str)) {
+                return new PebbleLeaf(str, withFaker);
+            }
+            if (withFaker && str.startsWith("#{")) {
+                return new FakerLeaf(decorator.decorate(field, expressions.compile(str)));
+            }
+            return new Constant(str);
+        }
+        if (value instanceof Map<?, ?> map) {
+            // Datafaker expressions are evaluated in nested maps, but not in maps nested in lists
+            return compileMap(map, withFaker, expressions, decorator, field).orConstant();
+        }
+        if (value instanceof List<?> list) {
+            List<Node> items = new ArrayList<>(list.size());
+            for (Object item : list) {
+                items.add(compile(item, withFaker && item instanceof String, expressions, decorator, field));
+            }
+            return new ListNode(items.toArray(Node[]::new)).orConstant();
+        }
+        return new Constant(value);
+    }
+
+    private interface Node {
+
+        Object evaluate(FakerExpressions expressions, Renderer renderer) throws IllegalVariableEvaluationException;
+
+        default boolean isConstant() {
+            return false;
+        }
+    }
+
+    private record Constant(Object value) implements Node {
+
+        @Override
+        public Object evaluate(FakerExpressions expressions, Renderer renderer) {
+            return value;
+        }
+
+        @Override
+        public boolean isConstant() {
+            return true;
+        }
+    }
+
+    private record FakerLeaf(Supplier<String> expression) implements Node {
+
+        @Override
+        public Object evaluate(FakerExpressions expressions, Renderer renderer) {
+            return expression.get();
+        }
+    }
+
+    private record PebbleLeaf(String template, boolean withFaker) implements Node {
+
+        @Override
+        public Object evaluate(FakerExpressions expressions, Renderer renderer) throws IllegalVariableEvaluationException {
+            String rendered = renderer.render(template);
+            if (withFaker && rendered != null && rendered.startsWith("#{")) {
+                return expressions.evaluate(rendered);
+            }
+            return rendered;
+        }
+    }
+
+    private record MapNode(Node[] keys, Node[] values) implements Node {
+
+        @Override
+        public Object evaluate(FakerExpressions expressions, Renderer renderer) throws IllegalVariableEvaluationException {
+            Map<Object, Object> map = LinkedHashMap.newLinkedHashMap(keys.length);
+            for (int i = 0; i < keys.length; i++) {
+                map.put(keys[i].evaluate(expressions, renderer), values[i].evaluate(expressions, renderer));
+            }
+            return map;
+        }
+
+        Node orConstant() {
+            for (int i = 0; i < keys.length; i++) {
+                if (!keys[i].isConstant() || !values[i].isConstant()) {
+                    return this;
+                }
+            }
+            Map<Object, Object> map = LinkedHashMap.newLinkedHashMap(keys.length);
+            for (int i = 0; i < keys.length; i++) {
+                map.put(((Constant) keys[i]).value(), ((Constant) values[i]).value());
+            }
+            return new Constant(Collections.unmodifiableMap(map));
+        }
+    }
+
+    private record ListNode(Node[] items) implements Node {
+
+        @Override
+        public Object evaluate(FakerExpressions expressions, Renderer renderer) throws IllegalVariableEvaluationException {
+            List<Object> list = new ArrayList<>(items.length);
+            for (Node item : items) {
+                list.add(item.evaluate(expressions, renderer));
+            }
+            return list;
+        }
+
+        Node orConstant() {
+            List<Object> list = new ArrayList<>(items.length);
+            for (Node item : items) {
+                if (!item.isConstant()) {
+                    return this;
+                }
+                list.add(((Constant) item).value());
+            }
+            return new Constant(Collections.unmodifiableList(list));
+        }
+    }
+}
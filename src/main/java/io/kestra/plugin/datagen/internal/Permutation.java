@@ -0,0 +1,65 @@
+package io.kestra.plugin.datagen.internal;
+
+/**
+ * A pseudo-random bijection of {@code [0, size)}, computed in constant expected time without materializing it.
+ *
+ * <p>Values are permuted by a 4-round Feistel network over the smallest even number of bits covering the size,
+ * and re-permuted while they fall outside of it (cycle walking), which takes fewer than 4 rounds on average.
+ */
+public final class Permutation {
+
+    private static final int ROUNDS = 4;
+
+    private final long size;
+    private final int halfBits;
+    private final long halfMask;
+    private final long[] keys;
+
+    /**
+     * Creates a new {@link Permutation} instance.
+     *
+     * @param size the size of the permuted domain.
+     * @param seed the seed selecting the permutation.
+     */
+    public Permutation(final long size, final long seed) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("The size must be greater than 0, but was: " + size);
+        }
+        this.size = size;
+        int bits = Long.SIZE - Long.numberOfLeadingZeros(size - 1);
+        this.halfBits = (bits + 1) / 2;
+        this.halfMask = (1L << halfBits) - 1;
+        this.keys = new long[ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) {
+            keys[i] = Seeds.derive(seed, i);
+        }
+    }
+
+    /**
+     * Applies the permutation.
+     *
+     * @param value a value in {@code [0, size)}.
+     * @return the permuted value, in {@code [0, size)}.
+     */
+    public long apply(final long value) {
+        if (halfBits == 0) {
+            return 0L;
+        }
+        long x = value;
+        do {
+            x = encrypt(x);
+        } while (x >= size);
+        return x;
+    }
+
+    private long encrypt(final long value) {
+        long left = value >>> halfBits;
+        long right = value & halfMask;
+        for (long key : keys) {
+            long next = left ^ (Seeds.mix(right ^ key) & halfMask);
+            left = right;
+            right = next;
+        }
+        return (left << halfBits) | right;
+    }
+}
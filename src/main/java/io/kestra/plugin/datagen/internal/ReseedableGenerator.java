@@ -0,0 +1,170 @@
+package io.kestra.plugin.datagen.internal;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Non-cryptographic generators of {@code java.util.random} that can be re-seeded in place.
+ *
+ * <p>The JDK implementations cannot be re-seeded, so a seeded generator producing each record from its own stream
+ * would need a new instance per record. These implementations follow the same algorithms, and {@link #setSeed(long)}
+ * only assigns their state, expanded from the seed with SplitMix64, so re-seeding for each record does not allocate.
+ * Their streams differ from the ones of the JDK implementations created with the same seed.
+ */
+public abstract sealed class ReseedableGenerator implements RandomGenerator {
+
+    // the multiplier of the LCG subgenerator of the LXM algorithms
+    private static final long M = 0xd1342543de82ef95L;
+
+    private long seedState;
+
+    /**
+     * Creates a generator implementing the given algorithm.
+     *
+     * @param algorithm the name of the algorithm, as in {@link java.util.random.RandomGeneratorFactory#of(String)}.
+     * @return a new {@link ReseedableGenerator}, to be seeded with {@link #setSeed(long)}.
+     */
+    public static ReseedableGenerator of(final String algorithm) {
+        return switch (algorithm) {
+            case "L64X128MixRandom" -> new L64X128MixRandom();
+            case "L64X256MixRandom" -> new L64X256MixRandom();
+            case "Xoshiro256PlusPlus" -> new Xoshiro256PlusPlus();
+            case "Xoroshiro128PlusPlus" -> new Xoroshiro128PlusPlus();
+            default -> throw new IllegalArgumentException("Unsupported seeded algorithm: " + algorithm);
+        };
+    }
+
+    /**
+     * Resets the state of this generator from the given seed.
+     *
+     * @param seed the seed.
+     */
+    public final void setSeed(final long seed) {
+        this.seedState = seed;
+        reset();
+    }
+
+    abstract void reset();
+
+    // the next word of the SplitMix64 stream of the seed
+    final long nextSeedWord() {
+        seedState += Seeds.GOLDEN_GAMMA;
+        return Seeds.mix(seedState);
+    }
+
+    private static long mixLea64(long z) {
+        z = (z ^ (z >>> 32)) * 0xdaba0b6eb09322e3L;
+        z = (z ^ (z >>> 32)) * 0xdaba0b6eb09322e3L;
+        return z ^ (z >>> 32);
+    }
+
+    static final class L64X128MixRandom extends ReseedableGenerator {
+        private long a, s, x0, x1;
+
+        @Override
+        void reset() {
+            a = nextSeedWord() | 1L;
+            s = nextSeedWord();
+            x0 = nextSeedWord();
+            x1 = nextSeedWord();
+            if ((x0 | x1) == 0) {
+                x0 = Seeds.GOLDEN_GAMMA;
+            }
+        }
+
+        @Override
+        public long nextLong() {
+            long result = mixLea64(s + x0);
+            s = M * s + a;
+            long q0 = x0, q1 = x1;
+            q1 ^= q0;
+            q0 = Long.rotateLeft(q0, 24);
+            q0 = q0 ^ q1 ^ (q1 << 16);
+            q1 = Long.rotateLeft(q1, 37);
+            x0 = q0;
+            x1 = q1;
+            return result;
+        }
+    }
+
+    static final class L64X256MixRandom extends ReseedableGenerator {
+        private long a, s, x0, x1, x2, x3;
+
+        @Override
+        void reset() {
+            a = nextSeedWord() | 1L;
+            s = nextSeedWord();
+            x0 = nextSeedWord();
+            x1 = nextSeedWord();
+            x2 = nextSeedWord();
+            x3 = nextSeedWord();
+            if ((x0 | x1 | x2 | x3) == 0) {
+                x0 = Seeds.GOLDEN_GAMMA;
+            }
+        }
+
+        @Override
+        public long nextLong() {
+            long result = mixLea64(s + x0);
+            s = M * s + a;
+            long t = x1 << 17;
+            x2 ^= x0;
+            x3 ^= x1;
+            x1 ^= x2;
+            x0 ^= x3;
+            x2 ^= t;
+            x3 = Long.rotateLeft(x3, 45);
+            return result;
+        }
+    }
+
+    static final class Xoshiro256PlusPlus extends ReseedableGenerator {
+        private long x0, x1, x2, x3;
+
+        @Override
+        void reset() {
+            x0 = nextSeedWord();
+            x1 = nextSeedWord();
+            x2 = nextSeedWord();
+            x3 = nextSeedWord();
+            if ((x0 | x1 | x2 | x3) == 0) {
+                x0 = Seeds.GOLDEN_GAMMA;
+            }
+        }
+
+        @Override
+        public long nextLong() {
+            long result = Long.rotateLeft(x0 + x3, 23) + x0;
+            long t = x1 << 17;
+            x2 ^= x0;
+            x3 ^= x1;
+            x1 ^= x2;
+            x0 ^= x3;
+            x2 ^= t;
+            x3 = Long.rotateLeft(x3, 45);
+            return result;
+        }
+    }
+
+    static final class Xoroshiro128PlusPlus extends ReseedableGenerator {
+        private long x0, x1;
+
+        @Override
+        void reset() {
+            x0 = nextSeedWord();
+            x1 = nextSeedWord();
+            if ((x0 | x1) == 0) {
+                x0 = Seeds.GOLDEN_GAMMA;
+            }
+        }
+
+        @Override
+        public long nextLong() {
+            long s0 = x0, s1 = x1;
+            long result = Long.rotateLeft(s0 + s1, 17) + s0;
+            s1 ^= s0;
+            x0 = Long.rotateLeft(s0, 49) ^ s1 ^ (s1 << 21);
+            x1 = Long.rotateLeft(s1, 28);
+            return result;
+        }
+    }
+}
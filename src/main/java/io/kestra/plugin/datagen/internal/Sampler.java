@@ -0,0 +1,206 @@
+package io.kestra.plugin.datagen.internal;
+
+import java.util.Random;
+
+/**
+ * Samples numbers from a statistical distribution, without boxing.
+ *
+ * <p>Samplers are immutable, and precompute what they can when created, so that each sample is drawn
+ * in constant time from the given random source.
+ */
+public interface Sampler {
+
+    /**
+     * Samples a value.
+     *
+     * @param random the random source.
+     * @return the value.
+     */
+    double nextDouble(Random random);
+
+    /**
+     * Samples a value rounded to the nearest integer; discrete distributions sample integers directly.
+     *
+     * @param random the random source.
+     * @return the value.
+     */
+    default long nextLong(Random random) {
+        return Math.round(nextDouble(random));
+    }
+
+    /**
+     * @return {@code true} if this distribution only produces integers.
+     */
+    default boolean isDiscrete() {
+        return false;
+    }
+
+    /**
+     * @param min the lower bound (inclusive).
+     * @param max the upper bound (exclusive).
+     * @return a uniform {@link Sampler}.
+     */
+    static Sampler uniform(final double min, final double max) {
+        if (!(min < max)) {
+            throw new IllegalArgumentException("'min' must be lower than 'max'");
+        }
+        return random -> random.nextDouble(min, max);
+    }
+
+    /**
+     * @param mean   the mean.
+     * @param stddev the standard deviation.
+     * @return a normal {@link Sampler}.
+     */
+    static Sampler normal(final double mean, final double stddev) {
+        checkPositive("stddev", stddev);
+        return random -> random.nextGaussian(mean, stddev);
+    }
+
+    /**
+     * @param mu    the mean of the logarithm of the values.
+     * @param sigma the standard deviation of the logarithm of the values.
+     * @return a log-normal {@link Sampler}.
+     */
+    static Sampler logNormal(final double mu, final double sigma) {
+        // reported under the property it is rendered from
+        checkPositive("stddev", sigma);
+        return random -> Math.exp(random.nextGaussian(mu, sigma));
+    }
+
+    /**
+     * @param mean the mean, i.e. the inverse of the rate.
+     * @return an exponential {@link Sampler}.
+     */
+    static Sampler exponential(final double mean) {
+        checkPositive("mean", mean);
+        return random -> random.nextExponential() * mean;
+    }
+
+    /**
+     * @param mean the mean.
+     * @return a Poisson {@link Sampler}.
+     */
+    static Sampler poisson(final double mean) {
+        checkPositive("mean", mean);
+        return new Poisson(mean);
+    }
+
+    /**
+     * Creates a Zipf {@link Sampler}, where value {@code k} in {@code [1, cardinality]} has a probability
+     * proportional to {@code 1 / k^exponent}. Samples are drawn from an {@link AliasTable}.
+     *
+     * @param cardinality the number of distinct values.
+     * @param exponent    the exponent.
+     * @return a Zipf {@link Sampler}.
+     */
+    static Sampler zipf(final int cardinality, final double exponent) {
+        if (cardinality <= 0) {
+            throw new IllegalArgumentException("'cardinality' must be greater than 0");
+        }
+        checkPositive("exponent", exponent);
+        AliasTable table = AliasTable.zipf(cardinality, exponent);
+        return new Discrete() {
+            @Override
+            public long nextLong(Random random) {
+                return table.sample(random) + 1L;
+            }
+        };
+    }
+
+    private static void checkPositive(final String name, final double value) {
+        if (!(value > 0)) {
+            throw new IllegalArgumentException("'%s' must be greater than 0, but was: %s".formatted(name, value));
+        }
+    }
+
+    /**
+     * A distribution of integers.
+     */
+    interface Discrete extends Sampler {
+
+        @Override
+        long nextLong(Random random);
+
+        @Override
+        default double nextDouble(Random random) {
+            return nextLong(random);
+        }
+
+        @Override
+        default boolean isDiscrete() {
+            return true;
+        }
+    }
+
+    /**
+     * Poisson distribution: multiplication of uniform values for small means, and the transformed
+     * rejection method with squeeze (PTRS) of W. Hörmann for larger ones, so that sampling stays in constant time.
+     */
+    final class Poisson implements Discrete {
+
+        private static final double SMALL_MEAN = 10.0;
+
+        private final double mean;
+        private final double expMinusMean;
+        private final double logMean;
+        private final double b;
+        private final double a;
+        private final double invAlpha;
+        private final double vr;
+
+        private Poisson(final double mean) {
+            this.mean = mean;
+            this.expMinusMean = Math.exp(-mean);
+            this.logMean = Math.log(mean);
+            this.b = 0.931 + 2.53 * Math.sqrt(mean);
+            this.a = -0.059 + 0.02483 * b;
+            this.invAlpha = 1.1239 + 1.1328 / (b - 3.4);
+            this.vr = 0.9277 - 3.6224 / (b - 2);
+        }
+
+        @Override
+        public long nextLong(Random random) {
+            if (mean < SMALL_MEAN) {
+                long k = 0;
+                double p = random.nextDouble();
+                while (p > expMinusMean) {
+                    k++;
+                    p *= random.nextDouble();
+                }
+                return k;
+            }
+            while (true) {
+                double u = random.nextDouble() - 0.5;
+                double v = random.nextDouble();
+                double us = 0.5 - Math.abs(u);
+                long k = (long) Math.floor((2 * a / us + b) * u + mean + 0.43);
+                if (us >= 0.07 && v <= vr) {
+                    return k;
+                }
+                if (k < 0 || (us < 0.013 && v > us)) {
+                    continue;
+                }
+                if (Math.log(v * invAlpha / (a / (us * us) + b)) <= -mean + k * logMean - logFactorial(k)) {
+                    return k;
+                }
+            }
+        }
+
+        private static double logFactorial(final long k) {
+            if (k < 2) {
+                return 0.0;
+            }
+            if (k < 10) {
+                double result = 0.0;
+                for (long i = 2; i <= k; i++) {
+                    result += Math.log(i);
+                }
+                return result;
+            }
+            // Stirling series
+            double x = k;
+            return x * Math.log(x) - x + 0.5 * Math.log(2 * Math.PI * x) + 1 / (12 * x) - 1 / (360 * x * x * x);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package io.kestra.plugin.datagen.internal;
+
+/**
+ * Utilities for deriving independent random streams from a single seed.
+ *
+ * <p>Derivation follows the SplitMix64 scheme: the seed is advanced by a fixed odd increment per index
+ * and scrambled with a bijective mixing function, so the stream of any index can be computed directly,
+ * without generating the previous ones.
+ */
+public interface Seeds {
+
+    /**
+     * The SplitMix64 increment, i.e. the odd integer closest to {@code 2^64 / phi}.
+     */
+    long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    /**
+     * Derives the seed of the stream with the given index.
+     *
+     * @param seed  the root seed.
+     * @param index the index of the stream, e.g. a record index.
+     * @return the derived seed.
+     */
+    static long derive(long seed, long index) {
+        return mix(mix(seed) + GOLDEN_GAMMA * (index + 1));
+    }
+
+    /**
+     * Forks the root seed of an independent generator, e.g. a nested generator, from a root seed.
+     * Unlike {@link #derive(long, long)}, forked seeds are meant to be derived again for each record.
+     *
+     * @param seed   the root seed.
+     * @param stream the index of the forked generator.
+     * @return the forked root seed.
+     */
+    static long fork(long seed, long stream) {
+        return mix(seed ^ mix(GOLDEN_GAMMA * (stream + 1)));
+    }
+
+    /**
+     * Scrambles the bits of a value with the SplitMix64 finalizer.
+     *
+     * @param z the value.
+     * @return the scrambled value.
+     */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
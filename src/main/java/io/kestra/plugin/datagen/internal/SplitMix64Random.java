@@ -0,0 +1,76 @@
+package io.kestra.plugin.datagen.internal;
+
+import java.util.Random;
+
+/**
+ * A {@link Random} backed by a SplitMix64 generator, for APIs that require a {@link Random}, such as Datafaker.
+ *
+ * <p>Unlike {@link Random}, the state has 64 bits, re-seeding is a single assignment, and no method is synchronized:
+ * instances are meant to be confined to one thread and re-seeded for each record with {@link Seeds#derive(long, long)}.
+ * Normal values are not cached between calls, so a re-seeded instance never returns a value of the previous stream.
+ */
+public final class SplitMix64Random extends Random {
+
+    private long state;
+
+    /**
+     * Creates a new {@link SplitMix64Random} instance with a non-reproducible seed.
+     */
+    public SplitMix64Random() {
+        super();
+    }
+
+    /**
+     * Creates a new {@link SplitMix64Random} instance.
+     *
+     * @param seed the initial seed.
+     */
+    public SplitMix64Random(final long seed) {
+        super(seed);
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public void setSeed(final long seed) {
+        // called by the Random constructor
+        this.state = seed;
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public long nextLong() {
+        state += Seeds.GOLDEN_GAMMA;
+        return Seeds.mix(state);
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    protected int next(final int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public double nextGaussian() {
+        // the default method of RandomGenerator draws from nextLong, without the synchronized cache of Random
+        return nextGaussian(0.0, 1.0);
+    }
+}
@@ -0,0 +1,29 @@
+package io.kestra.plugin.datagen.internal;
+
+/**
+ * Utilities for analysing templates once, before generating records.
+ */
+public interface Templates {
+
+    /**
+     * Checks whether the given string contains Pebble syntax, i.e. an expression, a tag or a comment.
+     * Strings without Pebble syntax render to themselves, so they don't need to be rendered.
+     *
+     * @param template the string to check.
+     * @return {@code true} if the string must be rendered by Pebble.
+     */
+    static boolean containsPebble(final String template) {
+        return template != null
+            && (template.contains("{{") || template.contains("{%") || template.contains("{#"));
+    }
+
+    /**
+     * Checks whether the given string contains a Datafaker expression.
+     *
+     * @param template the string to check.
+     * @return {@code true} if the string must be evaluated by Datafaker.
+     */
+    static boolean containsFakerExpression(final String template) {
+        return template != null && template.contains("#{");
+    }
+}
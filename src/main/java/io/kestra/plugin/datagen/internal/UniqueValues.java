@@ -0,0 +1,112 @@
+package io.kestra.plugin.datagen.internal;
+
+import java.time.Instant;
+import java.util.function.Supplier;
+
+/**
+ * Ensures the values of a field are unique, by regenerating values already seen a bounded number of times.
+ *
+ * <p>Seen values are tracked by a {@link BloomFilter}, so memory does not grow with the number of values:
+ * a false positive only causes a unique value to be regenerated, never a duplicate value to be output.
+ * Instances are thread-safe.
+ */
+public final class UniqueValues {
+
+    public static final long DEFAULT_CAPACITY = 10_000_000L;
+    public static final double DEFAULT_FALSE_POSITIVE_RATE = 0.001;
+    public static final int DEFAULT_MAX_RETRIES = 100;
+
+    private final String field;
+    private final BloomFilter filter;
+    private final int maxRetries;
+
+    /**
+     * Creates a new {@link UniqueValues} instance.
+     *
+     * @param field             the name of the field, for error messages.
+     * @param expectedValues    the number of values the filter is sized for.
+     * @param falsePositiveRate the false-positive rate of the filter.
+     * @param maxRetries        the maximum number of values regenerated for a record.
+     */
+    public UniqueValues(final String field, final long expectedValues, final double falsePositiveRate, final int maxRetries) {
+        this.field = field;
+        this.filter = new BloomFilter(expectedValues, falsePositiveRate);
+        this.maxRetries = maxRetries;
+    }
+
+    /**
+     * Returns the given value if it was not seen yet, or a new value from the given supplier otherwise.
+     *
+     * @param value    the generated value.
+     * @param supplier the supplier of new values.
+     * @param <T>      the type of the values.
+     * @return a unique value.
+     * @throws IllegalStateException if no unique value was generated within the maximum number of retries.
+     */
+    public <T> T next(final T value, final Supplier<T> supplier) {
+        T next = value;
+        for (int retry = 0; !add(next); retry++) {
+            if (retry >= maxRetries) {
+                throw exhausted();
+            }
+            next = supplier.get();
+        }
+        return next;
+    }
+
+    /**
+     * Adds a value, unless it was already seen.
+     *
+     * @param value the value.
+     * @return {@code true} if the value is unique.
+     */
+    public boolean add(final Object value) {
+        return filter.add(hash(value));
+    }
+
+    /**
+     * Adds a value given by its 64-bit hash, e.g. a primitive value, unless it was already seen.
+     *
+     * @param hash the hash of the value, see {@link #hash(Object)}.
+     * @return {@code true} if the value is unique.
+     */
+    public boolean add(final long hash) {
+        return filter.add(hash);
+    }
+
+    /**
+     * @return the maximum number of values regenerated for a record.
+     */
+    public int maxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * @return the exception thrown when no unique value can be generated.
+     */
+    public IllegalStateException exhausted() {
+        return new IllegalStateException(
+            "Failed to generate a unique value for field '%s' after %d retries; the field may not have enough distinct values.".formatted(field, maxRetries)
+        );
+    }
+
+    /**
+     * Hashes a value: integral numbers and instants (in milliseconds) are their own hash, floating-point numbers hash their bits,
+     * other values their string representation.
+     *
+     * @param value the value.
+     * @return the 64-bit hash.
+     */
+    public static long hash(final Object value) {
+        return switch (value) {
+            case Long l -> l;
+            case Integer i -> i;
+            case Double d -> Double.doubleToLongBits(d);
+            case Boolean b -> b ? 1L : 0L;
+            // values within the same millisecond are considered equal, which may only cause regenerations
+            case Instant instant -> instant.toEpochMilli();
+            case null -> 0L;
+            default -> BloomFilter.hash(value.toString());
+        };
+    }
+}
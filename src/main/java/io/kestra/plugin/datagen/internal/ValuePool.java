@@ -0,0 +1,96 @@
+package io.kestra.plugin.datagen.internal;
+
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * A pool of distinct string values generated once, then sampled for each record.
+ *
+ * <p>Sampling returns the pooled instances, so it does not allocate. Copies of a generator producing
+ * the same batch from other threads share the values of a single pool with {@link #share(ValuePool)},
+ * while sampling them with their own random source.
+ */
+public final class ValuePool implements Supplier<String> {
+
+    // how many values are drawn per requested value before giving up on distinctness, e.g. for small value sets
+    private static final int MAX_ATTEMPTS_PER_VALUE = 4;
+
+    private final Random random;
+    private String[] values;
+    private AliasTable distribution;
+
+    private ValuePool(final String[] values, final Random random, final AliasTable distribution) {
+        this.values = values;
+        this.random = random;
+        this.distribution = distribution;
+    }
+
+    /**
+     * Generates a pool of values.
+     *
+     * @param source the supplier of values.
+     * @param size   the number of distinct values to generate; fewer values are kept if the source cannot produce enough of them.
+     * @param skew   the exponent of the Zipf distribution used to sample values by generation order; {@code 0} or {@code null} samples uniformly.
+     * @param random the random source used to sample values.
+     * @return a new {@link ValuePool}.
+     */
+    public static ValuePool of(final Supplier<String> source, final int size, final Double skew, final Random random) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Pool size must be greater than 0, but was: " + size);
+        }
+        Set<String> values = new LinkedHashSet<>();
+        long maxAttempts = (long) size * MAX_ATTEMPTS_PER_VALUE;
+        for (long attempt = 0; attempt < maxAttempts && values.size() < size; attempt++) {
+            String value = source.get();
+            if (value != null) {
+                values.add(value);
+            }
+        }
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("Failed to generate any value for the pool");
+        }
+
+        AliasTable distribution = skew != null && skew > 0 ? AliasTable.zipf(values.size(), skew) : null;
+        return new ValuePool(values.toArray(String[]::new), random, distribution);
+    }
+
+    /**
+     * Creates a pool without values, e.g. for a copy of a generator, that must be filled with {@link #share(ValuePool)} before sampling.
+     *
+     * @param random the random source used to sample values.
+     * @return a new empty {@link ValuePool}.
+     */
+    public static ValuePool empty(final Random random) {
+        return new ValuePool(new String[0], random, null);
+    }
+
+    /**
+     * Replaces the values of this pool with the ones of the given pool, e.g. the pool of another copy of the same generator,
+     * so that all copies sample the same values. Must be called before sampling from other threads.
+     *
+     * @param pool the pool to share values with.
+     */
+    public void share(final ValuePool pool) {
+        this.values = pool.values;
+        this.distribution = pool.distribution;
+    }
+
+    /**
+     * @return the number of values in the pool.
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Samples a value of the pool.
+     *
+     * @return the value.
+     */
+    @Override
+    public String get() {
+        return values[distribution != null ? distribution.sample(random) : random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,152 @@
+package io.kestra.plugin.datagen.model;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A batch of object records stored by columns, as produced by {@link DataGenerator#produceBatch(long, int)}.
+ *
+ * <p>Each column is an array holding one value per record: {@code int[]}, {@code long[]}, {@code double[]},
+ * {@code boolean[]} for primitive columns, or {@code Object[]} otherwise. Timestamp columns are stored as
+ * {@code long[]} epoch milliseconds and read back as {@link Instant}.
+ */
+public final class ColumnBatch {
+
+    /**
+     * The type of the values of a column.
+     */
+    public enum Type {
+        INT,
+        LONG,
+        DOUBLE,
+        BOOLEAN,
+        TIMESTAMP_MILLIS,
+        OBJECT;
+
+        /**
+         * Allocates a column of this type.
+         *
+         * @param size the number of values.
+         * @return a new array.
+         */
+        public Object newColumn(int size) {
+            return switch (this) {
+                case INT -> new int[size];
+                case LONG, TIMESTAMP_MILLIS -> new long[size];
+                case DOUBLE -> new double[size];
+                case BOOLEAN -> new boolean[size];
+                case OBJECT -> new Object[size];
+            };
+        }
+    }
+
+    private final String[] names;
+    private final Type[] types;
+    private final Object[] columns;
+    private final int size;
+
+    /**
+     * Creates a new {@link ColumnBatch} instance.
+     *
+     * @param names   the column names.
+     * @param types   the column types.
+     * @param columns the columns, allocated with {@link Type#newColumn(int)}.
+     * @param size    the number of records.
+     */
+    public ColumnBatch(final String[] names, final Type[] types, final Object[] columns, final int size) {
+        if (names.length != types.length || names.length != columns.length) {
+            throw new IllegalArgumentException("Column names, types and values must have the same length");
+        }
+        this.names = names;
+        this.types = types;
+        this.columns = columns;
+        this.size = size;
+    }
+
+    /**
+     * @return the number of records.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of columns.
+     */
+    public int columnCount() {
+        return columns.length;
+    }
+
+    /**
+     * @param column the column index.
+     * @return the column name.
+     */
+    public String name(int column) {
+        return names[column];
+    }
+
+    /**
+     * @param column the column index.
+     * @return the column type.
+     */
+    public Type type(int column) {
+        return types[column];
+    }
+
+    /**
+     * @param column the column index.
+     * @return the column values, see {@link Type#newColumn(int)}.
+     */
+    public Object column(int column) {
+        return columns[column];
+    }
+
+    /**
+     * Gets the index of the column with the given name.
+     *
+     * @param name the column name.
+     * @return the column index, or {@code -1} if there is no such column.
+     */
+    public int indexOf(String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets a value of the batch, boxing primitive values.
+     *
+     * @param column the column index.
+     * @param row    the record index.
+     * @return the value.
+     */
+    public Object get(int column, int row) {
+        Object values = columns[column];
+        return switch (types[column]) {
+            case INT -> ((int[]) values)[row];
+            case LONG -> ((long[]) values)[row];
+            case DOUBLE -> ((double[]) values)[row];
+            case BOOLEAN -> ((boolean[]) values)[row];
+            case TIMESTAMP_MILLIS -> Instant.ofEpochMilli(((long[]) values)[row]);
+            case OBJECT -> ((Object[]) values)[row];
+        };
+    }
+
+    /**
+     * Gets a record of the batch as an object.
+     *
+     * @param row the record index.
+     * @return a new map of the record values, by column name.
+     */
+    public Map<String, Object> row(int row) {
+        Map<String, Object> record = LinkedHashMap.newLinkedHashMap(names.length);
+        for (int i = 0; i < names.length; i++) {
+            record.put(names[i], get(i, row));
+        }
+        return record;
+    }
+}
@@ -3,13 +3,29 @@ package io.kestra.plugin.datagen.model;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
 import io.kestra.core.plugins.AdditionalPlugin;
 import io.kestra.core.plugins.serdes.PluginDeserializer;
 import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.plugin.datagen.internal.FakerExpressions;
+import io.kestra.plugin.datagen.internal.Fakers;
+import io.kestra.plugin.datagen.internal.Seeds;
+import io.kestra.plugin.datagen.internal.SplitMix64Random;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Plugin
 @NoArgsConstructor
@@ -17,8 +33,46 @@ import java.util.Objects;
 @JsonDeserialize(using = PluginDeserializer.class)
 public abstract class DataGenerator<T> extends AdditionalPlugin implements Producer<T> {
 
+    @Schema(
+        title = "Random seed",
+        description = "Makes generated records reproducible: the record at index `n` is always generated from a random stream derived from the seed and `n`, whatever the parallelism or the index the generation starts from. Values rendered from Pebble expressions such as `{{ now() }}` are not affected. Defaults to a non-reproducible random source."
+    )
+    @Getter
+    @PluginProperty(group = "advanced")
+    private Property<Long> seed;
+
+    @Schema(
+        title = "Render scope",
+        description = "How often Pebble expressions such as `{{ now() }}` are rendered: for each `RECORD`, once per `BATCH` (a task run or trigger evaluation), or once per `RUN` of the generator, e.g. until a realtime trigger is restarted. Datafaker expressions are always evaluated for each record. Defaults to `RECORD`."
+    )
+    @Getter
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<RenderScope> renderScope = Property.ofValue(RenderScope.RECORD);
+
     protected RunContext runContext;
 
+    /**
+     * The random source of this generator; re-seeded for each record when a seed is configured.
+     * A {@link Random} is required by Datafaker, so it is backed by a {@link SplitMix64Random}.
+     */
+    protected Random random;
+
+    private Long rootSeed;
+
+    // the seed forked by the generator this one is a component of, used when no seed is configured
+    private Long forkedSeed;
+
+    private RenderScope rendering;
+
+    private Map<String, String> rendered;
+
+    private FakerExpressions fakerExpressions;
+
+    private List<DataGenerator<?>> components;
+
+    private boolean sharing;
+
     /**
      * Initializes this {@link DataGenerator}.
      *
@@ -26,5 +80,262 @@ public abstract class DataGenerator<T> extends AdditionalPlugin implements Produ
      */
     public void init(final RunContext runContext) throws IllegalVariableEvaluationException {
         this.runContext = Objects.requireNonNull(runContext, "runContext must not be null");
+        this.rootSeed = runContext.render(this.seed).as(Long.class).orElse(this.forkedSeed);
+        this.random = this.rootSeed != null ? new SplitMix64Random(this.rootSeed) : new SplitMix64Random();
+        this.rendering = runContext.render(this.renderScope).as(RenderScope.class).orElse(RenderScope.RECORD);
+        this.rendered = new ConcurrentHashMap<>();
+        this.fakerExpressions = null;
+        this.components = new ArrayList<>();
+    }
+
+    /**
+     * Initializes a generator producing part of the records of this generator, e.g. a field.
+     * When this generator is seeded, a component without its own seed gets a seed forked from this
+     * generator's seed, so that its values are reproducible but independent from the other ones.
+     * The forked seed is only kept at runtime: the configured {@code seed} of the component is left untouched.
+     * Components are then re-seeded, start batches and share their state along with this generator.
+     *
+     * @param component the component to initialize.
+     * @param stream    the index of the component, used to fork its seed.
+     */
+    protected void initComponent(final DataGenerator<?> component, final long stream) throws IllegalVariableEvaluationException {
+        component.forkedSeed = this.rootSeed != null ? Seeds.fork(this.rootSeed, stream) : null;
+        component.sharing = this.sharing;
+        try {
+            component.init(runContext);
+        } finally {
+            component.sharing = false;
+        }
+        components.add(component);
+    }
+
+    /**
+     * Creates the {@link FakerExpressions} of this generator, drawing its values from the generator's random source.
+     * Invalid expressions are logged once, and counted by {@link #fallbacks()} each time they are output as is.
+     *
+     * @param locale the locale, in the format [language, country, variant]; empty for the default locale.
+     * @return a new {@link FakerExpressions}.
+     */
+    protected FakerExpressions createFakerExpressions(final List<String> locale) {
+        this.fakerExpressions = new FakerExpressions(
+            Fakers.create(locale, this.random),
+            expression -> runContext.logger().warn("Invalid Datafaker expression '{}': it will be output as is", expression)
+        );
+        return this.fakerExpressions;
+    }
+
+    /**
+     * Gets the number of values output as is, because their Datafaker expression could not be evaluated.
+     *
+     * @return the number of fallbacks since {@link #init(RunContext)}.
+     */
+    public long fallbacks() {
+        long fallbacks = fakerExpressions != null ? fakerExpressions.fallbacks() : 0L;
+        for (DataGenerator<?> component : components) {
+            fallbacks += component.fallbacks();
+        }
+        return fallbacks;
+    }
+
+    /**
+     * Starts a new batch, discarding the values rendered for the previous one when rendering once per batch.
+     */
+    public void startBatch() {
+        if (rendering == RenderScope.BATCH) {
+            rendered.clear();
+        }
+        for (DataGenerator<?> component : components) {
+            component.startBatch();
+        }
+    }
+
+    /**
+     * Shares the state of the given generator that must be consistent between copies producing the same batch
+     * from other threads, e.g. so that they render Pebble expressions to the same values.
+     * Subclasses sharing more state must call this method.
+     *
+     * @param generator the initialized generator, of the same type, to share state with.
+     */
+    public void shareState(final DataGenerator<?> generator) {
+        this.rendered = generator.rendered;
+        for (int i = 0; i < components.size(); i++) {
+            components.get(i).shareState(generator.components.get(i));
+        }
+    }
+
+    /**
+     * Initializes this generator as a copy of the given one, to produce records of the same batch from another thread:
+     * the state shared with {@link #shareState(DataGenerator)} is not built again, see {@link #isSharingState()}.
+     *
+     * @param runContext the {@link RunContext}.
+     * @param generator  the initialized generator, of the same type, to share state with.
+     */
+    public void initCopy(final RunContext runContext, final DataGenerator<?> generator) throws IllegalVariableEvaluationException {
+        this.sharing = true;
+        try {
+            init(runContext);
+        } finally {
+            this.sharing = false;
+        }
+        shareState(generator);
+    }
+
+    /**
+     * Checks whether this generator is being initialized by {@link #initCopy(RunContext, DataGenerator)}, in which case
+     * state that is expensive to build and replaced by {@link #shareState(DataGenerator)}, such as value pools, should be left empty.
+     *
+     * @return {@code true} if the state built by {@link #init(RunContext)} will be shared from another generator.
+     */
+    protected boolean isSharingState() {
+        return sharing;
+    }
+
+    /**
+     * Renders the given Pebble template according to the configured {@link RenderScope}.
+     *
+     * @param template the template.
+     * @return the rendered value.
+     */
+    protected String render(final String template) throws IllegalVariableEvaluationException {
+        if (rendering == RenderScope.RECORD) {
+            return runContext.render(template);
+        }
+        String value = rendered.get(template);
+        if (value == null) {
+            value = runContext.render(template);
+            if (value != null) {
+                String previous = rendered.putIfAbsent(template, value);
+                value = previous != null ? previous : value;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Gets the record at the given index. When a seed is configured, the record only depends on the seed and the index.
+     *
+     * @param index the index of the record in the generated dataset.
+     * @return the produced record.
+     */
+    @Override
+    public T produce(long index) {
+        seek(index);
+        return produce();
+    }
+
+    /**
+     * Checks whether this generator produces batches of records natively with {@link #produceBatch(long, int)}.
+     *
+     * @return {@code true} if batches can be produced by columns.
+     */
+    public boolean supportsColumnBatches() {
+        return false;
+    }
+
+    /**
+     * Produces a batch of consecutive records by columns, without allocating an object per record.
+     * The records are the same as the ones returned by {@link #produce(long)} for the same indexes.
+     *
+     * @param firstIndex the index of the first record of the batch.
+     * @param size       the number of records.
+     * @return the produced records.
+     * @throws UnsupportedOperationException if {@link #supportsColumnBatches()} is {@code false}.
+     */
+    public ColumnBatch produceBatch(long firstIndex, int size) {
+        throw new UnsupportedOperationException("%s does not produce column batches".formatted(getClass().getSimpleName()));
+    }
+
+    /**
+     * Gets the type of the column holding the records of this generator when it produces a field
+     * of a generator producing column batches, see {@link #fillColumn(Object, int)}.
+     *
+     * @return the column type; {@link ColumnBatch.Type#OBJECT} unless records are primitives.
+     */
+    public ColumnBatch.Type columnType() {
+        return ColumnBatch.Type.OBJECT;
+    }
+
+    /**
+     * Produces the next record into a column allocated for {@link #columnType()}, without boxing it when the column is primitive.
+     *
+     * @param column the column.
+     * @param row    the index of the record in the column.
+     */
+    public void fillColumn(Object column, int row) {
+        ((Object[]) column)[row] = produce();
+    }
+
+    /**
+     * Checks whether this generator, or one of its components, regenerates values already generated since {@link #init(RunContext)},
+     * which requires producing all the records of a dataset from the same initialized generator, in a deterministic order.
+     *
+     * @return {@code true} if some values are unique among the produced records.
+     */
+    public boolean hasUniqueValues() {
+        for (DataGenerator<?> component : components) {
+            if (component.hasUniqueValues()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether this generator returns the same mutable instance for every record, e.g. a reused buffer,
+     * in which case each record must be consumed before the next one is produced.
+     *
+     * @return {@code true} if records are only valid until the next one is produced.
+     */
+    public boolean reusesRecords() {
+        return false;
+    }
+
+    /**
+     * Re-seeds the random source of this generator with the stream of the given record index.
+     * This is a no-op when no seed is configured.
+     *
+     * @param index the index of the record in the generated dataset.
+     */
+    public void seek(long index) {
+        if (rootSeed != null) {
+            random.setSeed(Seeds.derive(rootSeed, index));
+        }
+        for (DataGenerator<?> component : components) {
+            component.seek(index);
+        }
+    }
+
+    /**
+     * @return {@code true} if a seed is configured, or forked from the seed of the generator this one is a component of.
+     */
+    protected boolean isSeeded() {
+        return rootSeed != null;
+    }
+
+    /**
+     * @return the seed used by this generator, either configured or forked; {@code null} when not seeded.
+     */
+    protected Long rootSeed() {
+        return rootSeed;
+    }
+
+    /**
+     * Gets an example record describing the structure and value types of the produced records,
+     * used to derive the schema of columnar output formats.
+     *
+     * @return the example record, or empty if the structure is only known from produced records.
+     */
+    public Optional<Object> shape() {
+        return Optional.empty();
+    }
+
+    /**
+     * Creates a non-initialized copy of this {@link DataGenerator}, e.g. to produce records from another thread.
+     *
+     * @return a new {@link DataGenerator} with the same properties.
+     */
+    @SuppressWarnings("unchecked")
+    public DataGenerator<T> copy() {
+        return JacksonMapper.ofJson().convertValue(this, this.getClass());
     }
 }
@@ -13,4 +13,15 @@ public interface Producer<T> {
      * @return the produced item
      */
     T produce();
+
+    /**
+     * Gets the item at the given index of the produced sequence.
+     * Producers not supporting random access ignore the index.
+     *
+     * @param index the index of the item.
+     * @return the produced item
+     */
+    default T produce(long index) {
+        return produce();
+    }
 }
@@ -0,0 +1,19 @@
+package io.kestra.plugin.datagen.model;
+
+/**
+ * How often the Pebble expressions of a {@link DataGenerator} are rendered.
+ */
+public enum RenderScope {
+    /**
+     * Rendered for each record.
+     */
+    RECORD,
+    /**
+     * Rendered once per batch, i.e. once per task run or trigger evaluation; every record emitted by a realtime trigger is a batch.
+     */
+    BATCH,
+    /**
+     * Rendered once for as long as the generator runs, e.g. until a realtime trigger is restarted.
+     */
+    RUN
+}
@@ -0,0 +1,135 @@
+package io.kestra.plugin.datagen.services;
+
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.plugin.datagen.Data;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service for periodically saving the progress of a {@link ChunkedWriter} to the state store,
+ * so that a retried run can resume from the last checkpoint instead of starting over.
+ *
+ * <p>A checkpoint only covers chunks already uploaded to internal storage; a retry resumes from the
+ * number of records they hold. Checkpoints are saved each time a chunk upload completes; when no
+ * checkpoint was saved for the configured interval, the chunk being written is closed early, once it
+ * reaches the configured minimum size, and the checkpoint is saved once its upload is done.
+ */
+public class Checkpointer {
+
+    private static final String STATE_NAME = "datagen-checkpoint";
+
+    private final RunContext runContext;
+    private final String taskId;
+    private final String executionId;
+    private final long intervalNanos;
+    private final long minChunkBytes;
+
+    private int savedChunks = 0;
+    private long lastCheckpointNanos;
+
+    /**
+     * Creates a new {@link Checkpointer} instance.
+     *
+     * @param runContext    the {@link RunContext}.
+     * @param taskId        the id of the task being checkpointed.
+     * @param executionId   the id of the execution being checkpointed; retries of the same execution share checkpoints.
+     * @param interval      the maximum duration between two checkpoints.
+     * @param minChunkBytes the minimum size of a chunk closed early for a checkpoint, before compression.
+     */
+    public Checkpointer(final RunContext runContext,
+                        final String taskId,
+                        final String executionId,
+                        final Duration interval,
+                        final long minChunkBytes) {
+        this.runContext = runContext;
+        this.taskId = taskId;
+        this.executionId = executionId;
+        this.intervalNanos = interval.toNanos();
+        this.minChunkBytes = minChunkBytes;
+    }
+
+    /**
+     * Loads the last checkpoint saved for the task, if any, and restores its chunks into the given writer.
+     *
+     * @param writer the {@link ChunkedWriter} to restore.
+     * @return the last checkpoint, or empty if the run starts from scratch.
+     */
+    public Optional<Checkpoint> restore(ChunkedWriter writer) throws IOException {
+        this.lastCheckpointNanos = System.nanoTime();
+
+        Checkpoint checkpoint;
+        try (InputStream is = runContext.stateStore().getState(STATE_NAME, taskId, executionId)) {
+            checkpoint = JacksonMapper.ofJson().readValue(is, Checkpoint.class);
+        } catch (FileNotFoundException e) {
+            return Optional.empty();
+        } catch (Exception e) {
+            if (e instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("Failed to load checkpoint", e);
+        }
+
+        writer.restore(checkpoint.chunks());
+        this.savedChunks = checkpoint.chunks().size();
+        runContext.logger().info(
+            "Resuming from checkpoint: {} record(s) already stored in {} file(s)",
+            checkpoint.count(),
+            checkpoint.chunks().size()
+        );
+        return Optional.of(checkpoint);
+    }
+
+    /**
+     * Saves a checkpoint if new chunks were uploaded. When the interval has elapsed and the current chunk reached
+     * the minimum size, it is closed and its upload is awaited first, so that a checkpoint is saved at least once
+     * per interval without producing arbitrarily small chunks. Meant to be called after each written record;
+     * it only waits for uploads once per interval.
+     *
+     * @param writer the {@link ChunkedWriter}.
+     */
+    public void update(ChunkedWriter writer) throws IOException {
+        if (System.nanoTime() - lastCheckpointNanos >= intervalNanos && writer.getChunkSize() >= minChunkBytes) {
+            writer.completeChunk();
+            writer.awaitUploads();
+            save(writer);
+            lastCheckpointNanos = System.nanoTime();
+        } else if (writer.uploadedChunkCount() > savedChunks) {
+            save(writer);
+        }
+    }
+
+    /**
+     * Deletes the checkpoint once the run has completed.
+     */
+    public void clear() throws IOException {
+        if (savedChunks > 0) {
+            runContext.stateStore().deleteState(STATE_NAME, taskId, executionId);
+        }
+    }
+
+    private void save(ChunkedWriter writer) throws IOException {
+        List<Data.Chunk> chunks = writer.uploadedChunks();
+        if (chunks.size() > savedChunks) {
+            long count = chunks.stream().mapToLong(Data.Chunk::getCount).sum();
+            Checkpoint checkpoint = new Checkpoint(count, chunks);
+            runContext.stateStore().putState(STATE_NAME, taskId, executionId, JacksonMapper.ofJson().writeValueAsBytes(checkpoint));
+            savedChunks = chunks.size();
+            lastCheckpointNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * The progress of a run.
+     *
+     * @param count  the number of records stored in {@code chunks}, from which a retry resumes.
+     * @param chunks the chunks uploaded to internal storage, in write order.
+     */
+    public record Checkpoint(long count, List<Data.Chunk> chunks) {
+    }
+}
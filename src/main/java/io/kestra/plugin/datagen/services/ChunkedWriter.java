@@ -0,0 +1,348 @@
+package io.kestra.plugin.datagen.services;
+
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.datagen.Data;
+import io.kestra.plugin.datagen.internal.CountingOutputStream;
+import io.kestra.plugin.datagen.model.ColumnBatch;
+import io.kestra.plugin.datagen.writers.Compression;
+import io.kestra.plugin.datagen.writers.RecordWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Service for writing generated records to internal storage, rolling over to a new file (chunk)
+ * when the configured number of records or bytes is reached.
+ *
+ * <p>Each completed chunk is uploaded in the background while the next one is being written.
+ * In streaming mode, chunks are not written to local disk at all: the background uploader
+ * reads them from a bounded pipe while they are being written.
+ */
+public class ChunkedWriter implements Closeable {
+
+    // records written between two measures of the current chunk size, which flush the encoder
+    static final int SIZE_CHECK_INTERVAL = 256;
+
+    private final RunContext runContext;
+    private final ChunkedWriterOptions options;
+    private final Object shape;
+    private final ExecutorService uploader;
+    private final List<PendingChunk> uploads = new ArrayList<>();
+    private int uploaded = 0;
+
+    // current chunk
+    private File file;
+    private Future<URI> upload;
+    private CountingOutputStream compressed;
+    private CountingOutputStream output;
+    private RecordWriter writer;
+    private long chunkCount;
+    private long chunkSize;
+
+    // completed chunks
+    private long count = 0L;
+    private long size = 0L;
+    private long compressedSize = 0L;
+
+    /**
+     * Creates a new {@link ChunkedWriter} instance.
+     *
+     * @param runContext the {@link RunContext}.
+     * @param options    the {@link ChunkedWriterOptions}.
+     * @param shape      an example record, see {@link RecordWriter#create}.
+     */
+    public ChunkedWriter(final RunContext runContext, final ChunkedWriterOptions options, final Object shape) {
+        this.runContext = runContext;
+        this.options = options;
+        this.shape = shape;
+        this.uploader = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "datagen-uploader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Writes the given record, rolling over to a new chunk if needed; {@code null} records are skipped.
+     *
+     * @param record the record to write.
+     */
+    public void write(Object record) throws IOException {
+        if (record == null) {
+            return;
+        }
+        if (writer == null) {
+            open();
+        }
+        writer.write(record);
+        chunkCount++;
+        if (chunkCount % SIZE_CHECK_INTERVAL == 0) {
+            measure();
+        }
+        if (chunkCount >= options.maxRecordsPerFile() || chunkSize >= options.maxBytesPerFile()) {
+            roll();
+        }
+    }
+
+    /**
+     * Writes the records of the given batch, rolling over to a new chunk if needed.
+     * The number of bytes per chunk is only measured after each sub-batch written to the same chunk.
+     *
+     * @param batch the batch of records to write.
+     */
+    public void write(ColumnBatch batch) throws IOException {
+        int row = 0;
+        while (row < batch.size()) {
+            if (writer == null) {
+                open();
+            }
+            int size = (int) Math.min(batch.size() - row, options.maxRecordsPerFile() - chunkCount);
+            writer.write(batch, row, row + size);
+            chunkCount += size;
+            row += size;
+            measure();
+            if (chunkCount >= options.maxRecordsPerFile() || chunkSize >= options.maxBytesPerFile()) {
+                roll();
+            }
+        }
+    }
+
+    /**
+     * Restores chunks uploaded by a previous attempt, before any record is written.
+     *
+     * @param chunks the uploaded chunks, in write order.
+     */
+    public void restore(List<Data.Chunk> chunks) {
+        if (writer != null || !uploads.isEmpty()) {
+            throw new IllegalStateException("Chunks can only be restored before writing records");
+        }
+        for (Data.Chunk chunk : chunks) {
+            Data.Chunk.ChunkBuilder builder = Data.Chunk.builder()
+                .count(chunk.getCount())
+                .size(chunk.getSize())
+                .compressedSize(chunk.getCompressedSize());
+            uploads.add(new PendingChunk(builder, CompletableFuture.completedFuture(chunk.getUri()), null));
+            count += chunk.getCount();
+            size += chunk.getSize() != null ? chunk.getSize() : 0L;
+            compressedSize += chunk.getCompressedSize() != null ? chunk.getCompressedSize() : 0L;
+        }
+        uploaded = uploads.size();
+    }
+
+    /**
+     * Completes the current chunk, if any record was written to it, and uploads it in the background.
+     */
+    public void completeChunk() throws IOException {
+        if (writer != null && chunkCount > 0) {
+            roll();
+        }
+    }
+
+    /**
+     * Gets the number of chunks for which upload is done, without waiting for the ones still in progress.
+     * Only the leading chunks are counted, so that they always cover the first records written.
+     * This does not allocate, so it can be called for each record.
+     *
+     * @return the number of uploaded chunks.
+     */
+    public int uploadedChunkCount() {
+        while (uploaded < uploads.size() && uploads.get(uploaded).upload().isDone()) {
+            uploaded++;
+        }
+        return uploaded;
+    }
+
+    /**
+     * Gets the chunks for which upload is done, without waiting for the ones still in progress.
+     * Only the leading chunks are returned, so that they always cover the first records written.
+     *
+     * @return the uploaded chunks, in write order.
+     */
+    public List<Data.Chunk> uploadedChunks() throws IOException {
+        uploadedChunkCount();
+        List<Data.Chunk> chunks = new ArrayList<>(uploaded);
+        for (PendingChunk pending : uploads.subList(0, uploaded)) {
+            chunks.add(pending.get());
+        }
+        return chunks;
+    }
+
+    /**
+     * Waits for the upload of all completed chunks; the current chunk is left open.
+     */
+    public void awaitUploads() throws IOException {
+        for (PendingChunk pending : uploads.subList(uploaded, uploads.size())) {
+            pending.get();
+        }
+        uploaded = uploads.size();
+    }
+
+    /**
+     * Completes the current chunk and waits for all uploads.
+     *
+     * @return the uploaded chunks, in write order; at least one, possibly empty.
+     */
+    public List<Data.Chunk> complete() throws IOException {
+        if (writer != null || uploads.isEmpty()) {
+            if (writer == null) {
+                open();
+            }
+            roll();
+        }
+
+        List<Data.Chunk> chunks = new ArrayList<>(uploads.size());
+        for (PendingChunk pending : uploads) {
+            chunks.add(pending.get());
+        }
+        uploaded = uploads.size();
+        return chunks;
+    }
+
+    /**
+     * @return the number of records written so far.
+     */
+    public long getCount() {
+        return count + (writer != null ? chunkCount : 0L);
+    }
+
+    /**
+     * Gets the number of bytes written so far, before compression. The size of the current chunk is measured
+     * every {@value #SIZE_CHECK_INTERVAL} records, or after each column batch, without flushing the encoder
+     * for each record; for block-based formats, it only covers complete blocks. The size is exact once all chunks are completed.
+     *
+     * @return the size in bytes.
+     */
+    public long getSize() {
+        return size + (writer != null ? chunkSize : 0L);
+    }
+
+    /**
+     * Gets the number of bytes written to the current chunk, before compression, as last measured.
+     *
+     * @return the size in bytes, or 0 if no chunk is open.
+     */
+    public long getChunkSize() {
+        return writer != null ? chunkSize : 0L;
+    }
+
+    /**
+     * @return the size in bytes of completed chunks, after compression.
+     */
+    public long getCompressedSize() {
+        return compressedSize;
+    }
+
+    /**
+     * Stops uploading and discards the current chunk if not completed, and the local files of completed chunks not uploaded yet.
+     */
+    @Override
+    public void close() throws IOException {
+        // interrupt uploads first, so that a streamed chunk is not stored truncated
+        uploader.shutdownNow();
+        for (PendingChunk pending : uploads) {
+            if (pending.file() != null) {
+                Files.deleteIfExists(pending.file().toPath());
+            }
+        }
+        if (writer != null) {
+            try {
+                writer.close();
+            } finally {
+                if (file != null) {
+                    Files.deleteIfExists(file.toPath());
+                }
+                writer = null;
+            }
+        }
+    }
+
+    private void open() throws IOException {
+        String extension = options.format().extension() + options.compression().extension();
+        if (options.streaming()) {
+            PipedInputStream pipe = new PipedInputStream(options.bufferSize());
+            this.file = null;
+            this.compressed = new CountingOutputStream(new PipedOutputStream(pipe));
+            String name = UUID.randomUUID() + extension;
+            this.upload = uploader.submit(() -> {
+                // closing the pipe on failure unblocks the writer
+                try (pipe) {
+                    return runContext.storage().putFile(pipe, name);
+                }
+            });
+        } else {
+            this.file = runContext.workingDir().createTempFile(extension).toFile();
+            this.compressed = new CountingOutputStream(new FileOutputStream(file));
+            this.upload = null;
+        }
+        this.output = new CountingOutputStream(new BufferedOutputStream(
+            options.compression().wrap(compressed, options.compressionLevel(), options.bufferSize()),
+            options.bufferSize()
+        ));
+        this.writer = RecordWriter.create(options.format(), output, shape);
+        this.chunkCount = 0L;
+        this.chunkSize = 0L;
+    }
+
+    private void measure() throws IOException {
+        writer.flush();
+        chunkSize = output.getCount();
+    }
+
+    private void roll() throws IOException {
+        writer.close();
+        writer = null;
+
+        Data.Chunk.ChunkBuilder chunk = Data.Chunk.builder()
+            .count(chunkCount)
+            .size(output.getCount())
+            .compressedSize(options.compression() != Compression.NONE ? compressed.getCount() : null);
+        count += chunkCount;
+        size += output.getCount();
+        compressedSize += compressed.getCount();
+
+        if (upload == null) {
+            final File completed = file;
+            upload = uploader.submit(() -> {
+                URI uri = runContext.storage().putFile(completed);
+                Files.deleteIfExists(completed.toPath());
+                return uri;
+            });
+        }
+        uploads.add(new PendingChunk(chunk, upload, file));
+        upload = null;
+        file = null;
+    }
+
+    // file is the local file of the chunk, deleted once uploaded; null for streamed or restored chunks
+    private record PendingChunk(Data.Chunk.ChunkBuilder chunk, Future<URI> upload, File file) {
+
+        Data.Chunk get() throws IOException {
+            try {
+                return chunk.uri(upload.get()).build();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while uploading generated data", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException ioException) {
+                    throw ioException;
+                }
+                throw new IOException("Failed to upload generated data", e.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package io.kestra.plugin.datagen.services;
+
+import io.kestra.plugin.datagen.writers.Compression;
+import io.kestra.plugin.datagen.writers.Format;
+
+public record ChunkedWriterOptions(
+    Format format,
+    Compression compression,
+    Integer compressionLevel,
+    int bufferSize,
+    long maxRecordsPerFile,
+    long maxBytesPerFile,
+    boolean streaming) {
+
+    public static final long UNLIMITED = Long.MAX_VALUE;
+}
@@ -0,0 +1,172 @@
+package io.kestra.plugin.datagen.services;
+
+import io.kestra.plugin.datagen.model.Producer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service for producing a number of records with several {@link Producer}s running concurrently.
+ *
+ * <p>Records are produced by blocks: each worker fills its own shard of blocks and hands them over
+ * through a bounded queue, so memory stays constant whatever the number of records.
+ * When order is preserved, block {@code k} is always produced by worker {@code k % parallelism}
+ * and blocks are consumed in sequence; otherwise blocks are consumed as soon as any worker completes one.
+ */
+public class ParallelGenerator implements AutoCloseable {
+
+    private static final int MAX_BLOCK_SIZE = 1024;
+    private static final int QUEUE_CAPACITY_PER_WORKER = 4;
+    private static final Block END = new Block(null, null);
+
+    private final List<? extends Producer<?>> producers;
+    private final long firstIndex;
+    private final long numRecords;
+    private final int blockSize;
+    private final boolean preserveOrder;
+    private final List<BlockingQueue<Block>> queues;
+    private final AtomicLong nextBlock = new AtomicLong(0);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    private ExecutorService executor;
+    private long consumedBlocks = 0;
+    private int completedWorkers = 0;
+
+    /**
+     * Creates a new {@link ParallelGenerator} instance.
+     *
+     * @param producers     the producers, one per worker; they must not be shared with other threads.
+     * @param firstIndex    the index of the first record, passed to {@link Producer#produce(long)}.
+     * @param numRecords    the total number of records to produce.
+     * @param preserveOrder whether blocks must be consumed in production order.
+     */
+    public ParallelGenerator(final List<? extends Producer<?>> producers,
+                             final long firstIndex,
+                             final long numRecords,
+                             final boolean preserveOrder) {
+        if (Objects.requireNonNull(producers, "producers must not be null").isEmpty()) {
+            throw new IllegalArgumentException("At least one producer is required");
+        }
+        this.producers = producers;
+        this.firstIndex = firstIndex;
+        this.numRecords = numRecords;
+        this.preserveOrder = preserveOrder;
+        // spread small batches over all workers, but keep blocks small enough to bound memory
+        long perWorker = numRecords / producers.size() + (numRecords % producers.size() == 0 ? 0 : 1);
+        this.blockSize = (int) Math.max(1L, Math.min(MAX_BLOCK_SIZE, perWorker));
+
+        this.queues = new ArrayList<>();
+        if (preserveOrder) {
+            for (int i = 0; i < producers.size(); i++) {
+                this.queues.add(new ArrayBlockingQueue<>(QUEUE_CAPACITY_PER_WORKER));
+            }
+        } else {
+            this.queues.add(new ArrayBlockingQueue<>(QUEUE_CAPACITY_PER_WORKER * producers.size()));
+        }
+    }
+
+    /**
+     * Starts all workers.
+     */
+    public void start() {
+        AtomicInteger threadCount = new AtomicInteger(0);
+        this.executor = Executors.newFixedThreadPool(producers.size(), runnable -> {
+            Thread thread = new Thread(runnable, "datagen-worker-" + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < producers.size(); i++) {
+            final int worker = i;
+            executor.submit(() -> runWorker(worker));
+        }
+    }
+
+    /**
+     * Gets the next block of produced records.
+     *
+     * @return the records, or {@code null} once all records have been consumed.
+     * @throws InterruptedException if interrupted while waiting for a worker.
+     * @throws IllegalStateException if a worker failed to produce a record.
+     */
+    public List<Object> next() throws InterruptedException {
+        if (preserveOrder) {
+            if (consumedBlocks * blockSize >= numRecords) {
+                return null;
+            }
+            Block block = queues.get((int) (consumedBlocks % producers.size())).take();
+            consumedBlocks++;
+            return block.records();
+        }
+
+        while (completedWorkers < producers.size()) {
+            Block block = queues.get(0).take();
+            if (block == END) {
+                completedWorkers++;
+            } else {
+                return block.records();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Stops all workers, discarding the records not yet consumed.
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true) && executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void runWorker(int worker) {
+        Producer<?> producer = producers.get(worker);
+        BlockingQueue<Block> queue = preserveOrder ? queues.get(worker) : queues.get(0);
+        try {
+            long block = preserveOrder ? worker : nextBlock.getAndIncrement();
+            while (!closed.get()) {
+                long first = block * blockSize;
+                if (first >= numRecords) {
+                    break;
+                }
+                int size = (int) Math.min(blockSize, numRecords - first);
+                List<Object> records = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    records.add(producer.produce(firstIndex + first + i));
+                }
+                queue.put(new Block(records, null));
+                block = preserveOrder ? block + producers.size() : nextBlock.getAndIncrement();
+            }
+            if (!preserveOrder) {
+                queue.put(END);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            // also hands over errors, e.g. a StackOverflowError, so that the consumer never waits for a dead worker
+            try {
+                queue.put(new Block(null, e));
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private record Block(List<Object> values, Throwable error) {
+
+        List<Object> records() {
+            if (error != null) {
+                throw new IllegalStateException("Failed to generate data", error);
+            }
+            return values;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package io.kestra.plugin.datagen.writers;
+
+import io.kestra.plugin.datagen.model.ColumnBatch;
+import org.apache.avro.Schema;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A {@link RecordWriter} streaming records to an Avro object container file.
+ *
+ * <p>The schema is derived from the shape (or from the first record) when the first record is written.
+ */
+final class AvroRecordWriter implements RecordWriter {
+
+    private final OutputStream output;
+    private final Object shape;
+    private Schema schema;
+    private DataFileWriter<GenericRecord> writer;
+
+    AvroRecordWriter(final OutputStream output, final Object shape) {
+        this.output = output;
+        this.shape = shape;
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public void write(Object record) throws IOException {
+        if (record == null) {
+            return;
+        }
+        if (writer == null) {
+            open(shape != null ? shape : record);
+        }
+        writer.append(AvroSchemas.toRecord(schema, record));
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public void write(ColumnBatch batch, int from, int to) throws IOException {
+        if (from >= to) {
+            return;
+        }
+        if (writer == null) {
+            open(shape != null ? shape : batch.row(from));
+        }
+        ColumnBatchConverter converter = new ColumnBatchConverter(schema, batch);
+        for (int row = from; row < to; row++) {
+            writer.append(converter.convert(row));
+        }
+    }
+
+    private void open(Object shape) throws IOException {
+        this.schema = AvroSchemas.of(shape);
+        this.writer = new DataFileWriter<>(new GenericDatumWriter<GenericRecord>(schema)).create(schema, output);
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public void flush() {
+        // records are only pushed by complete blocks
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public void close() throws IOException {
+        // write a valid, empty file when the schema is known upfront
+        if (writer == null && shape != null) {
+            open(shape);
+        }
+        try (output) {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package io.kestra.plugin.datagen.writers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.kestra.core.serializers.JacksonMapper;
+import org.apache.avro.JsonProperties;
+import org.apache.avro.LogicalType;
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Utilities for deriving Avro schemas from the shape of generated records, and converting records to Avro.
+ */
+interface AvroSchemas {
+
+    String RECORD_NAME = "Record";
+    String SOURCE_NAME_PROP = "kestra.sourceName";
+    int DECIMAL_PRECISION = 38;
+
+    /**
+     * Derives a record schema from an example record. Every field is nullable.
+     * Records that are not objects are described as a record with a single {@code value} field.
+     *
+     * @param shape the example record.
+     * @return the Avro record schema.
+     */
+    static Schema of(Object shape) {
+        if (shape instanceof Map<?, ?> map) {
+            return record(RECORD_NAME, map);
+        }
+        return record(RECORD_NAME, Collections.singletonMap(CsvRecordWriter.VALUE_COLUMN, shape));
+    }
+
+    /**
+     * Converts a generated record to an Avro record of the given schema.
+     *
+     * @param schema the record schema, as returned by {@link #of(Object)}.
+     * @param record the generated record.
+     * @return the Avro record.
+     */
+    static GenericData.Record toRecord(Schema schema, Object record) {
+        Object value = record instanceof Map<?, ?> ? record : Collections.singletonMap(CsvRecordWriter.VALUE_COLUMN, record);
+        return (GenericData.Record) convert(schema, value);
+    }
+
+    private static Schema record(String name, Map<?, ?> shape) {
+        List<Schema.Field> fields = new ArrayList<>(shape.size());
+        Set<String> names = new HashSet<>();
+        for (Map.Entry<?, ?> entry : shape.entrySet()) {
+            String source = String.valueOf(entry.getKey());
+            String fieldName = sanitize(source);
+            while (!names.add(fieldName)) {
+                fieldName = fieldName + "_";
+            }
+            Schema.Field field = new Schema.Field(
+                fieldName,
+                nullable(type(name + "_" + fieldName, entry.getValue())),
+                null,
+                JsonProperties.NULL_VALUE
+            );
+            field.addProp(SOURCE_NAME_PROP, source);
+            fields.add(field);
+        }
+        return Schema.createRecord(name, null, null, false, fields);
+    }
+
+    private static Schema type(String name, Object sample) {
+        if (sample instanceof Map<?, ?> map) {
+            return record(name, map);
+        }
+        if (sample instanceof Collection<?> collection) {
+            Object item = collection.stream().filter(Objects::nonNull).findFirst().orElse(null);
+            return Schema.createArray(nullable(type(name + "_item", item)));
+        }
+        if (sample instanceof Boolean) {
+            return Schema.create(Schema.Type.BOOLEAN);
+        }
+        if (sample instanceof Integer || sample instanceof Long || sample instanceof Short || sample instanceof Byte || sample instanceof BigInteger) {
+            return Schema.create(Schema.Type.LONG);
+        }
+        if (sample instanceof Float || sample instanceof Double) {
+            return Schema.create(Schema.Type.DOUBLE);
+        }
+        if (sample instanceof BigDecimal decimal) {
+            int scale = Math.min(DECIMAL_PRECISION, Math.max(0, decimal.scale()));
+            return LogicalTypes.decimal(DECIMAL_PRECISION, scale).addToSchema(Schema.create(Schema.Type.BYTES));
+        }
+        if (sample instanceof byte[] || sample instanceof ByteBuffer) {
+            return Schema.create(Schema.Type.BYTES);
+        }
+        if (sample instanceof Instant || sample instanceof OffsetDateTime || sample instanceof ZonedDateTime
+            || sample instanceof LocalDateTime || sample instanceof Date) {
+            return LogicalTypes.timestampMillis().addToSchema(Schema.create(Schema.Type.LONG));
+        }
+        if (sample instanceof LocalDate) {
+            return LogicalTypes.date().addToSchema(Schema.create(Schema.Type.INT));
+        }
+        if (sample instanceof UUID) {
+            return LogicalTypes.uuid().addToSchema(Schema.create(Schema.Type.STRING));
+        }
+        return Schema.create(Schema.Type.STRING);
+    }
+
+    private static Schema nullable(Schema schema) {
+        return Schema.createUnion(Schema.create(Schema.Type.NULL), schema);
+    }
+
+    private static String sanitize(String name) {
+        StringBuilder sb = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            sb.append((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || (i > 0 && c >= '0' && c <= '9') ? c : '_');
+        }
+        return sb.isEmpty() ? "_" : sb.toString();
+    }
+
+    /**
+     * Converts a generated value to an Avro value of the given schema.
+     *
+     * @param schema the value schema.
+     * @param value  the generated value.
+     * @return the Avro value.
+     */
+    static Object convert(Schema schema, Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (schema.getType() == Schema.Type.UNION) {
+            schema = schema.getTypes().get(1);
+        }
+
+        LogicalType logicalType = schema.getLogicalType();
+        try {
+            return switch (schema.getType()) {
+                case RECORD -> {
+                    if (!(value instanceof Map<?, ?> map)) {
+                        throw new IllegalArgumentException("Expected an object but got '%s'".formatted(value));
+                    }
+                    GenericData.Record record = new GenericData.Record(schema);
+                    for (Schema.Field field : schema.getFields()) {
+                        record.put(field.pos(), convert(field.schema(), map.get(field.getProp(SOURCE_NAME_PROP))));
+                    }
+                    yield record;
+                }
+                case ARRAY -> {
+                    Collection<?> collection = value instanceof Collection<?> c ? c : List.of(value);
+                    List<Object> items = new ArrayList<>(collection.size());
+                    for (Object item : collection) {
+                        items.add(convert(schema.getElementType(), item));
+                    }
+                    yield items;
+                }
+                case BOOLEAN -> value instanceof Boolean b ? b : Boolean.parseBoolean(value.toString());
+                case INT -> value instanceof LocalDate date ? (int) date.toEpochDay() : toNumber(value).intValue();
+                case LONG -> logicalType != null ? toEpochMillis(value) : toNumber(value).longValue();
+                case DOUBLE -> toNumber(value).doubleValue();
+                case BYTES -> {
+                    if (logicalType instanceof LogicalTypes.Decimal decimal) {
+                        BigDecimal number = value instanceof BigDecimal d ? d : new BigDecimal(value.toString());
+                        yield ByteBuffer.wrap(number.setScale(decimal.getScale(), RoundingMode.HALF_UP).unscaledValue().toByteArray());
+                    }
+                    if (value instanceof byte[] bytes) yield ByteBuffer.wrap(bytes);
+                    if (value instanceof ByteBuffer buffer) yield buffer;
+                    yield ByteBuffer.wrap(value.toString().getBytes(StandardCharsets.UTF_8));
+                }
+                case STRING -> value instanceof Map<?, ?> || value instanceof Collection<?>
+                    ? JacksonMapper.ofJson().writeValueAsString(value)
+                    : value.toString();
+                default -> value;
+            };
+        } catch (NumberFormatException | DateTimeException e) {
+            throw new IllegalArgumentException("Cannot convert value '%s' to Avro type '%s'".formatted(value, schema.getType()), e);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Number toNumber(Object value) {
+        return value instanceof Number number ? number : new BigDecimal(value.toString());
+    }
+
+    private static long toEpochMillis(Object value) {
+        return switch (value) {
+            case Instant instant -> instant.toEpochMilli();
+            case OffsetDateTime dateTime -> dateTime.toInstant().toEpochMilli();
+            case ZonedDateTime dateTime -> dateTime.toInstant().toEpochMilli();
+            case LocalDateTime dateTime -> dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+            case Date date -> date.getTime();
+            case Number number -> number.longValue();
+            default -> Instant.parse(value.toString()).toEpochMilli();
+        };
+    }
+}
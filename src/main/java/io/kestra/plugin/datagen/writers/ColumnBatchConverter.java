@@ -0,0 +1,65 @@
+package io.kestra.plugin.datagen.writers;
+
+import io.kestra.plugin.datagen.model.ColumnBatch;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+
+import java.util.List;
+
+/**
+ * Converts the records of a {@link ColumnBatch} to Avro records, reading primitive columns
+ * directly when they match the type of the Avro field.
+ */
+final class ColumnBatchConverter {
+
+    private final Schema schema;
+    private final ColumnBatch batch;
+    private final int[] columns;
+    private final Schema[] types;
+
+    ColumnBatchConverter(final Schema schema, final ColumnBatch batch) {
+        this.schema = schema;
+        this.batch = batch;
+        List<Schema.Field> fields = schema.getFields();
+        this.columns = new int[fields.size()];
+        this.types = new Schema[fields.size()];
+        for (Schema.Field field : fields) {
+            columns[field.pos()] = batch.indexOf(field.getProp(AvroSchemas.SOURCE_NAME_PROP));
+            Schema type = field.schema();
+            types[field.pos()] = type.getType() == Schema.Type.UNION ? type.getTypes().get(1) : type;
+        }
+    }
+
+    GenericData.Record convert(int row) {
+        GenericData.Record record = new GenericData.Record(schema);
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] >= 0) {
+                record.put(i, value(types[i], columns[i], row));
+            }
+        }
+        return record;
+    }
+
+    private Object value(Schema type, int column, int row) {
+        Object values = batch.column(column);
+        Schema.Type target = type.getType();
+        return switch (batch.type(column)) {
+            case INT -> target == Schema.Type.LONG && type.getLogicalType() == null
+                ? (Object) (long) ((int[]) values)[row]
+                : AvroSchemas.convert(type, batch.get(column, row));
+            case LONG -> target == Schema.Type.LONG && type.getLogicalType() == null
+                ? (Object) ((long[]) values)[row]
+                : AvroSchemas.convert(type, batch.get(column, row));
+            case TIMESTAMP_MILLIS -> target == Schema.Type.LONG
+                ? (Object) ((long[]) values)[row]
+                : AvroSchemas.convert(type, batch.get(column, row));
+            case DOUBLE -> target == Schema.Type.DOUBLE
+                ? (Object) ((double[]) values)[row]
+                : AvroSchemas.convert(type, batch.get(column, row));
+            case BOOLEAN -> target == Schema.Type.BOOLEAN
+                ? (Object) ((boolean[]) values)[row]
+                : AvroSchemas.convert(type, batch.get(column, row));
+            case OBJECT -> AvroSchemas.convert(type, ((Object[]) values)[row]);
+        };
+    }
+}
@@ -0,0 +1,84 @@
+package io.kestra.plugin.datagen.writers;
+
+import com.github.luben.zstd.ZstdOutputStream;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+import net.jpountz.xxhash.XXHashFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Supported compression codecs for stored generated data.
+ */
+public enum Compression {
+    NONE(""),
+    GZIP(".gz"),
+    ZSTD(".zst"),
+    LZ4(".lz4");
+
+    private final String extension;
+
+    Compression(final String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * @return the file extension, including the leading dot; empty when not compressed.
+     */
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * Wraps the given stream so that written bytes are compressed on the fly.
+     *
+     * @param output     the stream receiving compressed bytes.
+     * @param level      the codec-specific compression level, or {@code null} for the codec default.
+     * @param bufferSize the size of the compression buffer, in bytes; LZ4 uses the nearest supported block size.
+     * @return the compressing stream, or the given stream when not compressed.
+     */
+    public OutputStream wrap(final OutputStream output, final Integer level, final int bufferSize) throws IOException {
+        return switch (this) {
+            case NONE -> output;
+            case GZIP -> new GZIPOutputStream(output, bufferSize) {
+                {
+                    if (level != null) {
+                        def.setLevel(level);
+                    }
+                }
+            };
+            case ZSTD -> {
+                ZstdOutputStream zstd = new ZstdOutputStream(new BufferedOutputStream(output, bufferSize));
+                if (level != null) {
+                    zstd.setLevel(level);
+                }
+                yield zstd;
+            }
+            case LZ4 -> new LZ4FrameOutputStream(
+                output,
+                lz4BlockSize(bufferSize),
+                -1L,
+                level != null ? LZ4Factory.fastestInstance().highCompressor(level) : LZ4Factory.fastestInstance().fastCompressor(),
+                XXHashFactory.fastestInstance().hash32(),
+                LZ4FrameOutputStream.FLG.Bits.BLOCK_INDEPENDENCE
+            );
+        };
+    }
+
+    // LZ4 frames only support blocks of 64 KiB, 256 KiB, 1 MiB or 4 MiB
+    private static LZ4FrameOutputStream.BLOCKSIZE lz4BlockSize(final int bufferSize) {
+        if (bufferSize < 128 * 1024) {
+            return LZ4FrameOutputStream.BLOCKSIZE.SIZE_64KB;
+        }
+        if (bufferSize < 512 * 1024) {
+            return LZ4FrameOutputStream.BLOCKSIZE.SIZE_256KB;
+        }
+        if (bufferSize < 2 * 1024 * 1024) {
+            return LZ4FrameOutputStream.BLOCKSIZE.SIZE_1MB;
+        }
+        return LZ4FrameOutputStream.BLOCKSIZE.SIZE_4MB;
+    }
+}
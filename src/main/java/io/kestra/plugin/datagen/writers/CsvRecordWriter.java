@@ -0,0 +1,111 @@
+package io.kestra.plugin.datagen.writers;
+
+import io.kestra.core.serializers.JacksonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link RecordWriter} streaming records as CSV lines with a header.
+ *
+ * <p>Columns are the top-level keys of the shape (or of the first record); nested values are written as JSON.
+ * Records that are not objects are written to a single {@code value} column.
+ */
+final class CsvRecordWriter implements RecordWriter {
+
+    static final String VALUE_COLUMN = "value";
+
+    private final Writer writer;
+    private final StringBuilder line = new StringBuilder();
+    private Object shape;
+    private List<String> columns;
+
+    CsvRecordWriter(final OutputStream output, final Object shape) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        this.shape = shape;
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public void write(Object record) throws IOException {
+        if (record == null) {
+            return;
+        }
+
+        if (columns == null) {
+            writeHeader(shape != null ? shape : record);
+        }
+
+        line.setLength(0);
+        if (record instanceof Map<?, ?> map) {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) line.append(',');
+                appendCell(map.get(columns.get(i)));
+            }
+        } else {
+            appendCell(record);
+        }
+        line.append('\n');
+        writer.append(line);
+    }
+
+    private void writeHeader(Object shape) throws IOException {
+        columns = new ArrayList<>();
+        if (shape instanceof Map<?, ?> map) {
+            map.keySet().forEach(key -> columns.add(String.valueOf(key)));
+        } else {
+            columns.add(VALUE_COLUMN);
+        }
+        this.shape = null;
+
+        line.setLength(0);
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) line.append(',');
+            appendCell(columns.get(i));
+        }
+        line.append('\n');
+        writer.append(line);
+    }
+
+    private void appendCell(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+
+        String cell;
+        if (value instanceof Map<?, ?> || value instanceof Collection<?>) {
+            cell = JacksonMapper.ofJson().writeValueAsString(value);
+        } else if (value instanceof byte[] bytes) {
+            cell = Base64.getEncoder().encodeToString(bytes);
+        } else {
+            cell = value.toString();
+        }
+
+        if (cell.indexOf(',') >= 0 || cell.indexOf('"') >= 0 || cell.indexOf('\n') >= 0 || cell.indexOf('\r') >= 0) {
+            line.append('"').append(cell.replace("\"", "\"\"")).append('"');
+        } else {
+            line.append(cell);
+        }
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
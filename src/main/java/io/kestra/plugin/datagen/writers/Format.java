@@ -0,0 +1,25 @@
+package io.kestra.plugin.datagen.writers;
+
+/**
+ * Supported formats for stored generated data.
+ */
+public enum Format {
+    ION(".ion"),
+    JSONL(".jsonl"),
+    CSV(".csv"),
+    AVRO(".avro"),
+    PARQUET(".parquet");
+
+    private final String extension;
+
+    Format(final String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * @return the file extension, including the leading dot.
+     */
+    public String extension() {
+        return extension;
+    }
+}
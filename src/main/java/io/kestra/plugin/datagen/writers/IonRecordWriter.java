@@ -0,0 +1,53 @@
+package io.kestra.plugin.datagen.writers;
+
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.kestra.core.serializers.JacksonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link RecordWriter} streaming records as Ion lines, the format of Kestra internal storage files.
+ */
+final class IonRecordWriter implements RecordWriter {
+
+    private final Writer writer;
+    private final SequenceWriter sequenceWriter;
+
+    IonRecordWriter(final OutputStream output) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        this.sequenceWriter = JacksonMapper.ofIon()
+            .writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .writeValues(writer);
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public void write(Object record) throws IOException {
+        // avoid writing "null"
+        if (record != null) {
+            sequenceWriter.write(record);
+        }
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public void flush() throws IOException {
+        sequenceWriter.flush();
+        writer.flush();
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public void close() throws IOException {
+        try (writer) {
+            sequenceWriter.close();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package io.kestra.plugin.datagen.writers;
+
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.kestra.core.serializers.JacksonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A {@link RecordWriter} streaming records as newline-delimited JSON.
+ */
+final class JsonLinesRecordWriter implements RecordWriter {
+
+    private final OutputStream output;
+    private final SequenceWriter sequenceWriter;
+
+    JsonLinesRecordWriter(final OutputStream output) throws IOException {
+        this.output = output;
+        this.sequenceWriter = JacksonMapper.ofJson()
+            .writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .withRootValueSeparator("\n")
+            .writeValues(output);
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public void write(Object record) throws IOException {
+        if (record != null) {
+            sequenceWriter.write(record);
+        }
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public void flush() throws IOException {
+        sequenceWriter.flush();
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public void close() throws IOException {
+        try (output) {
+            sequenceWriter.close();
+        }
+    }
+}
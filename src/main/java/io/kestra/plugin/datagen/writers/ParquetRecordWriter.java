@@ -0,0 +1,146 @@
+package io.kestra.plugin.datagen.writers;
+
+import io.kestra.plugin.datagen.model.ColumnBatch;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.conf.PlainParquetConfiguration;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.io.OutputFile;
+import org.apache.parquet.io.PositionOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A {@link RecordWriter} streaming records to a Parquet file.
+ *
+ * <p>The schema is derived from the shape (or from the first record) when the first record is written.
+ * Row groups are buffered in memory by the Parquet writer until they are complete.
+ */
+final class ParquetRecordWriter implements RecordWriter {
+
+    private final OutputStream output;
+    private final Object shape;
+    private Schema schema;
+    private ParquetWriter<GenericRecord> writer;
+
+    ParquetRecordWriter(final OutputStream output, final Object shape) {
+        this.output = output;
+        this.shape = shape;
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public void write(Object record) throws IOException {
+        if (record == null) {
+            return;
+        }
+        if (writer == null) {
+            open(shape != null ? shape : record);
+        }
+        writer.write(AvroSchemas.toRecord(schema, record));
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public void write(ColumnBatch batch, int from, int to) throws IOException {
+        if (from >= to) {
+            return;
+        }
+        if (writer == null) {
+            open(shape != null ? shape : batch.row(from));
+        }
+        ColumnBatchConverter converter = new ColumnBatchConverter(schema, batch);
+        for (int row = from; row < to; row++) {
+            writer.write(converter.convert(row));
+        }
+    }
+
+    private void open(Object shape) throws IOException {
+        this.schema = AvroSchemas.of(shape);
+        this.writer = AvroParquetWriter.<GenericRecord>builder(new StreamOutputFile(output))
+            .withSchema(schema)
+            .withDataModel(GenericData.get())
+            // a plain configuration avoids loading the Hadoop one, and its resources, for each file
+            .withConf(new PlainParquetConfiguration())
+            .build();
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public void flush() {
+        // records are only pushed by complete blocks
+    }
+
+    /** {@inheritDoc} **/
+    @Override
+    public void close() throws IOException {
+        // write a valid, empty file when the schema is known upfront
+        if (writer == null && shape != null) {
+            open(shape);
+        }
+        try (output) {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+
+    /**
+     * An {@link OutputFile} writing sequentially to an {@link OutputStream}, so that Parquet files
+     * can be streamed without a seekable destination.
+     */
+    private record StreamOutputFile(OutputStream output) implements OutputFile {
+
+        @Override
+        public PositionOutputStream create(long blockSizeHint) {
+            return new PositionOutputStream() {
+                private long position = 0L;
+
+                @Override
+                public long getPos() {
+                    return position;
+                }
+
+                @Override
+                public void write(int b) throws IOException {
+                    output.write(b);
+                    position++;
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    output.write(b, off, len);
+                    position += len;
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    output.flush();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    output.close();
+                }
+            };
+        }
+
+        @Override
+        public PositionOutputStream createOrOverwrite(long blockSizeHint) {
+            return create(blockSizeHint);
+        }
+
+        @Override
+        public boolean supportsBlockSize() {
+            return false;
+        }
+
+        @Override
+        public long defaultBlockSize() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.kestra.plugin.datagen.writers;
+
+import io.kestra.plugin.datagen.model.ColumnBatch;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service interface for encoding generated records to an {@link OutputStream}.
+ *
+ * <p>Closing the writer completes the encoded data (e.g. file footers) and closes the underlying stream.
+ */
+public interface RecordWriter extends Closeable, Flushable {
+
+    /**
+     * Writes the given record; {@code null} records are skipped.
+     *
+     * @param record the record to write.
+     */
+    void write(Object record) throws IOException;
+
+    /**
+     * Writes the records of the given batch, from {@code from} (inclusive) to {@code to} (exclusive).
+     *
+     * @param batch the batch of records.
+     * @param from  the index of the first record to write.
+     * @param to    the index after the last record to write.
+     */
+    default void write(ColumnBatch batch, int from, int to) throws IOException {
+        for (int row = from; row < to; row++) {
+            write(batch.row(row));
+        }
+    }
+
+    /**
+     * Pushes the records encoded so far to the underlying stream. Block-based formats (e.g. Avro or Parquet)
+     * only push complete blocks, so the bytes of pending records are not visible until a block is complete.
+     */
+    @Override
+    void flush() throws IOException;
+
+    /**
+     * Creates a new {@link RecordWriter} for the given format.
+     *
+     * @param format the format to write.
+     * @param output the stream to write to.
+     * @param shape  an example record describing the structure of the records, used by formats requiring a schema;
+     *               when {@code null}, the first written record is used instead.
+     * @return a new {@link RecordWriter}.
+     */
+    static RecordWriter create(final Format format, final OutputStream output, final Object shape) throws IOException {
+        return switch (format) {
+            case ION -> new IonRecordWriter(output);
+            case JSONL -> new JsonLinesRecordWriter(output);
+            case CSV -> new CsvRecordWriter(output, shape);
+            case AVRO -> new AvroRecordWriter(output, shape);
+            case PARQUET -> new ParquetRecordWriter(output, shape);
+        };
+    }
+}
@@ -0,0 +1,190 @@
+package io.kestra.plugin.datagen.core;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.plugin.datagen.generators.JsonObjectGenerator;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@KestraTest
+class GenerateTablesTest {
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void shouldGenerateRelatedTables() throws Exception {
+        // Given
+        RunContext runContext = runContextFactory.of();
+        GenerateTables task = GenerateTables.builder()
+            .id(UUID.randomUUID().toString())
+            .type(GenerateTables.class.getName())
+            .seed(Property.ofValue(42L))
+            .tables(List.of(
+                GenerateTables.Table.builder()
+                    .name("customers")
+                    .count(100L)
+                    .generator(generator(Map.of("name", "#{name.fullName}")))
+                    .build(),
+                GenerateTables.Table.builder()
+                    .name("orders")
+                    .parent("customers")
+                    .minChildren(0)
+                    .maxChildren(4)
+                    .generator(generator(Map.of("status", "NEW")))
+                    .build(),
+                GenerateTables.Table.builder()
+                    .name("line_items")
+                    .parent("orders")
+                    .minChildren(2)
+                    .generator(generator(Map.of("sku", "#{code.ean8}")))
+                    .build()
+            ))
+            .build();
+
+        // When
+        GenerateTables.Output output = task.run(runContext);
+
+        // Then
+        assertThat(output.getTables()).containsOnlyKeys("customers", "orders", "line_items");
+        List<Object> customers = readAll(runContext, output.getTables().get("customers").getUri());
+        List<Object> orders = readAll(runContext, output.getTables().get("orders").getUri());
+        List<Object> lineItems = readAll(runContext, output.getTables().get("line_items").getUri());
+        assertThat(customers).hasSize(100);
+        assertThat(orders).hasSize(output.getTables().get("orders").getCount().intValue());
+        assertThat(lineItems).hasSize(orders.size() * 2);
+
+        Set<Object> customerIds = new HashSet<>();
+        customers.forEach(record -> customerIds.add(((Map<?, ?>) record).get("id")));
+        Set<Object> orderIds = new HashSet<>();
+        for (Object record : orders) {
+            Map<?, ?> order = (Map<?, ?>) record;
+            assertThat(customerIds).contains(order.get("customers_id"));
+            orderIds.add(order.get("id"));
+        }
+        assertThat(orderIds).hasSize(orders.size());
+        for (Object record : lineItems) {
+            assertThat(orderIds).contains(((Map<?, ?>) record).get("orders_id"));
+        }
+
+        // same seed, same fan-out
+        GenerateTables.Output again = task.run(runContext);
+        assertThat(again.getTables().get("orders").getCount()).isEqualTo(output.getTables().get("orders").getCount());
+    }
+
+    @Test
+    void shouldRejectUndeclaredParent() {
+        // Given
+        GenerateTables task = GenerateTables.builder()
+            .id(UUID.randomUUID().toString())
+            .type(GenerateTables.class.getName())
+            .tables(List.of(
+                GenerateTables.Table.builder()
+                    .name("orders")
+                    .parent("customers")
+                    .generator(generator(Map.of("status", "NEW")))
+                    .build()
+            ))
+            .build();
+
+        // When / Then
+        assertThatThrownBy(() -> task.run(runContextFactory.of())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRejectGeneratedKeyField() {
+        // Given
+        GenerateTables task = GenerateTables.builder()
+            .id(UUID.randomUUID().toString())
+            .type(GenerateTables.class.getName())
+            .tables(List.of(
+                GenerateTables.Table.builder()
+                    .name("customers")
+                    .count(10L)
+                    .generator(generator(Map.of("id", "#{internet.uuid}")))
+                    .build()
+            ))
+            .build();
+
+        // When / Then
+        assertThatThrownBy(() -> task.run(runContextFactory.of()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Invalid table 'customers'")
+            .hasMessageContaining("'id'");
+    }
+
+    @Test
+    void shouldRejectCountOnChildTable() {
+        // Given
+        GenerateTables task = GenerateTables.builder()
+            .id(UUID.randomUUID().toString())
+            .type(GenerateTables.class.getName())
+            .tables(List.of(
+                GenerateTables.Table.builder()
+                    .name("customers")
+                    .count(10L)
+                    .generator(generator(Map.of("name", "#{name.fullName}")))
+                    .build(),
+                GenerateTables.Table.builder()
+                    .name("orders")
+                    .parent("customers")
+                    .count(100L)
+                    .generator(generator(Map.of("status", "NEW")))
+                    .build()
+            ))
+            .build();
+
+        // When / Then
+        assertThatThrownBy(() -> task.run(runContextFactory.of()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Invalid table 'orders'");
+    }
+
+    @Test
+    void shouldRejectChildrenBoundsOnRootTable() {
+        // Given
+        GenerateTables task = GenerateTables.builder()
+            .id(UUID.randomUUID().toString())
+            .type(GenerateTables.class.getName())
+            .tables(List.of(
+                GenerateTables.Table.builder()
+                    .name("customers")
+                    .count(10L)
+                    .maxChildren(3)
+                    .generator(generator(Map.of("name", "#{name.fullName}")))
+                    .build()
+            ))
+            .build();
+
+        // When / Then
+        assertThatThrownBy(() -> task.run(runContextFactory.of()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Invalid table 'customers'");
+    }
+
+    private static JsonObjectGenerator generator(Map<String, Object> value) {
+        return JsonObjectGenerator.builder().value(value).build();
+    }
+
+    private static List<Object> readAll(RunContext runContext, URI uri) throws Exception {
+        try (var reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(uri), StandardCharsets.UTF_8))) {
+            return FileSerde.readAll(reader).collectList().block();
+        }
+    }
+}
@@ -0,0 +1,522 @@
+package io.kestra.plugin.datagen.core;
+
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.plugin.datagen.Data;
+import io.kestra.plugin.datagen.generators.JsonObjectGenerator;
+import io.kestra.plugin.datagen.generators.NumberGenerator;
+import io.kestra.plugin.datagen.generators.TimeSeriesGenerator;
+import io.kestra.plugin.datagen.generators.TypedObjectGenerator;
+import io.kestra.plugin.datagen.model.DataGenerator;
+import io.kestra.plugin.datagen.writers.Compression;
+import io.kestra.plugin.datagen.writers.Format;
+import jakarta.inject.Inject;
+import org.apache.avro.file.DataFileStream;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@KestraTest
+class GenerateTest {
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void shouldStoreBatch() throws Exception {
+        // Given
+        RunContext runContext = runContextFactory.of();
+        Generate task = Generate.builder()
+            .id(UUID.randomUUID().toString())
+            .type(Generate.class.getName())
+            .store(Property.ofValue(true))
+            .batchSize(Property.ofValue(100L))
+            .generator(personGenerator())
+            .build();
+
+        // When
+        Data output = task.run(runContext);
+
+        // Then
+        assertThat(output.getCount()).isEqualTo(100L);
+        assertThat(output.getSize()).isGreaterThan(0L);
+        List<Object> records = readAll(runContext, output.getUri());
+        assertThat(records).hasSize(100);
+        assertThat(records.getFirst()).isInstanceOf(Map.class);
+    }
+
+    @Test
+    void shouldStoreBatchInParallel() throws Exception {
+        // Given
+        RunContext runContext = runContextFactory.of();
+        Generate task = Generate.builder()
+            .id(UUID.randomUUID().toString())
+            .type(Generate.class.getName())
+            .store(Property.ofValue(true))
+            .batchSize(Property.ofValue(5000L))
+            .parallelism(Property.ofValue(4))
+            .preserveOrder(Property.ofValue(false))
+            .generator(personGenerator())
+            .build();
+
+        // When
+        Data output = task.run(runContext);
+
+        // Then
+        assertThat(output.getCount()).isEqualTo(5000L);
+        assertThat(readAll(runContext, output.getUri())).hasSize(5000);
+    }
+
+    @Test
+    void shouldPreserveRecordOrderInParallel() throws Exception {
+        // Given: a seeded series whose timestamps follow the record index
+        RunContext runContext = runContextFactory.of();
+        Generate sequential = Generate.builder()
+            .id(UUID.randomUUID().toString())
+            .type(Generate.class.getName())
+            .store(Property.ofValue(true))
+            .batchSize(Property.ofValue(5000L))
+            .generator(sensorGenerator())
+            .build();
+        Generate parallel = Generate.builder()
+            .id(UUID.randomUUID().toString())
+            .type(Generate.class.getName())
+            .store(Property.ofValue(true))
+            .batchSize(Property.ofValue(5000L))
+            .parallelism(Property.ofValue(4))
+            .generator(sensorGenerator())
+            .build();
+
+        // When
+        List<Object> expected = readAll(runContext, sequential.run(runContext).getUri());
+        List<Object> records = readAll(runContext, parallel.run(runContext).getUri());
+
+        // Then
+        assertThat(records).hasSize(5000).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldStoreBatchAsCsv() throws Exception {
+        // Given
+        RunContext runContext = runContextFactory.of();
+        Generate task = Generate.builder()
+            .id(UUID.randomUUID().toString())
+            .type(Generate.class.getName())
+            .store(Property.ofValue(true))
+            .batchSize(Property.ofValue(10L))
+            .format(Property.ofValue(Format.CSV))
+            .generator(personGenerator())
+            .build();
+
+        // When
+        Data output = task.run(runContext);
+
+        // Then
+        assertThat(output.getUri().getPath()).endsWith(".csv");
+        String[] lines;
+        try (InputStream is = runContext.storage().getFile(output.getUri())) {
+            lines = new String(is.readAllBytes(), StandardCharsets.UTF_8).strip().split("\n");
+        }
+        assertThat(lines).hasSize(11);
+        assertThat(lines[0].split(",")).containsExactlyInAnyOrder("name", "email", "age");
+    }
+
+    @Test
+    void shouldStoreBatchAsAvroWithTemplateSchema() throws Exception {
+        // Given
+        RunContext runContext = runContextFactory.of();
+        Generate task = Generate.builder()
+            .id(UUID.randomUUID().toString())
+            .type(Generate.class.getName())
+            .store(Property.ofValue(true))
+            .batchSize(Property.ofValue(10L))
+            .format(Property.ofValue(Format.AVRO))
+            .generator(personGenerator())
+            .build();
+
+        // When
+        Data output = task.run(runContext);
+
+        // Then
+        List<GenericRecord> records = new ArrayList<>();
+        try (DataFileStream<GenericRecord> stream = new DataFileStream<>(runContext.storage().getFile(output.getUri()), new GenericDatumReader<>())) {
+            stream.forEach(records::add);
+        }
+        assertThat(records).hasSize(10);
+        assertThat(records.getFirst().get("age")).isEqualTo(30L);
+        assertThat(records.getFirst().get("name").toString()).doesNotStartWith("#{");
+    }
+
+    @Test
+    void shouldStoreCompressedBatch() throws Exception {
+        // Given
+        RunContext runContext = runContextFactory.of();
+        Generate task = Generate.builder()
+            .id(UUID.randomUUID().toString())
+            .type(Generate.class.getName())
+            .store(Property.ofValue(true))
+            .batchSize(Property.ofValue(1000L))
+            .format(Property.ofValue(Format.JSONL))
+            .compression(Property.ofValue(Compression.GZIP))
+            .compressionLevel(Property.ofValue(9))
+            .generator(personGenerator())
+            .build();
+
+        // When
+        Data output = task.run(runContext);
+
+        // Then
+        assertThat(output.getUri().getPath()).endsWith(".jsonl.gz");
+        assertThat(output.getCompressedSize()).isPositive().isLessThan(output.getSize());
+        String content;
+        try (InputStream is = new GZIPInputStream(runContext.storage().getFile(output.getUri()))) {
+            content = new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertThat(content.getBytes(StandardCharsets.UTF_8).length).isEqualTo(output.getSize());
+        assertThat(content.strip().split("\n")).hasSize(1000);
+    }
+
+    @Test
+    void shouldRollOverStoredFiles() throws Exception {
+        // Given
+        RunContext runContext = runContextFactory.of();
+        Generate task = Generate.builder()
+            .id(UUID.randomUUID().toString())
+            .type(Generate.class.getName())
+            .store(Property.ofValue(true))
+            .batchSize(Property.ofValue(250L))
+            .maxRecordsPerFile(Property.ofValue(100L))
+            .generator(personGenerator())
+            .build();
+
+        // When
+        Data output = task.run(runContext);
+
+        // Then
+        assertThat(output.getUri()).isNull();
+        assertThat(output.getChunks()).hasSize(3);
+        assertThat(output.getChunks()).extracting(Data.Chunk::getCount).containsExactly(100L, 100L, 50L);
+        assertThat(output.getChunks().stream().mapToLong(Data.Chunk::getSize).sum()).isEqualTo(output.getSize());
+        for (Data.Chunk chunk : output.getChunks()) {
+            assertThat(readAll(runContext, chunk.getUri())).hasSize((int) chunk.getCount());
+        }
+    }
+
+    @Test
+    void shouldStreamBatchToStorage() throws Exception {
+        // Given
+        RunContext runContext = runContextFactory.of();
+        Generate task = Generate.builder()
+            .id(UUID.randomUUID().toString())
+            .type(Generate.class.getName())
+            .store(Property.ofValue(true))
+            .batchSize(Property.ofValue(2000L))
+            .maxRecordsPerFile(Property.ofValue(1000L))
+            .streamToStorage(Property.ofValue(true))
+            .generator(personGenerator())
+            .build();
+
+        // When
+        Data output = task.run(runContext);
+
+        // Then
+        assertThat(output.getChunks()).hasSize(2);
+        for (Data.Chunk chunk : output.getChunks()) {
+            assertThat(readAll(runContext, chunk.getUri())).hasSize(1000);
+        }
+    }
+
+    @Test
+    void shouldStopAtTargetBytes() throws Exception {
+        // Given
+        RunContext runContext = runContextFactory.of();
+        Generate task = Generate.builder()
+            .id(UUID.randomUUID().toString())
+            .type(Generate.class.getName())
+            .store(Property.ofValue(true))
+            .batchSize(Property.ofValue(Long.MAX_VALUE))
+            .targetBytes(Property.ofValue(64 * 1024L))
+            .generator(personGenerator())
+            .build();
+
+        // When
+        Data output = task.run(runContext);
+
+        // Then
+        // the size is measured every 256 records of less than 128 bytes
+        assertThat(output.getSize()).isBetween(64 * 1024L, 96 * 1024L);
+        assertThat(readAll(runContext, output.getUri())).hasSize(output.getCount().intValue());
+    }
+
+    @Test
+    void shouldStopAtMaxDuration() throws Exception {
+        // Given
+        RunContext runContext = runContextFactory.of();
+        Generate task = Generate.builder()
+            .id(UUID.randomUUID().toString())
+            .type(Generate.class.getName())
+            .store(Property.ofValue(true))
+            .batchSize(Property.ofValue(Long.MAX_VALUE))
+            .maxDuration(Property.ofValue(Duration.ofMillis(500)))
+            .generator(personGenerator())
+            .build();
+
+        // When
+        long start = System.currentTimeMillis();
+        Data output = task.run(runContext);
+
+        // Then
+        assertThat(System.currentTimeMillis() - start).isGreaterThanOrEqualTo(500L);
+        assertThat(output.getCount()).isGreaterThan(1L);
+        assertThat(readAll(runContext, output.getUri())).hasSize(output.getCount().intValue());
+    }
+
+    @Test
+    void shouldRegenerateSeededBatchInParallelAndFromOffset() throws Exception {
+        // Given
+        RunContext runContext = runContextFactory.of();
+        Generate sequential = Generate.builder()
+            .id(UUID.randomUUID().toString())
+            .type(Generate.class.getName())
+            .store(Property.ofValue(true))
+            .batchSize(Property.ofValue(3000L))
+            .generator(personGenerator(42L))
+            .build();
+        Generate parallel = Generate.builder()
+            .id(UUID.randomUUID().toString())
+            .type(Generate.class.getName())
+            .store(Property.ofValue(true))
+            .batchSize(Property.ofValue(3000L))
+            .parallelism(Property.ofValue(4))
+            .generator(personGenerator(42L))
+            .build();
+        Generate slice = Generate.builder()
+            .id(UUID.randomUUID().toString())
+            .type(Generate.class.getName())
+            .store(Property.ofValue(true))
+            .batchSize(Property.ofValue(10L))
+            .offset(Property.ofValue(2500L))
+            .generator(personGenerator(42L))
+            .build();
+
+        // When
+        List<Object> expected = readAll(runContext, sequential.run(runContext).getUri());
+        List<Object> parallelRecords = readAll(runContext, parallel.run(runContext).getUri());
+        List<Object> sliceRecords = readAll(runContext, slice.run(runContext).getUri());
+
+        // Then
+        assertThat(parallelRecords).isEqualTo(expected);
+        assertThat(sliceRecords).isEqualTo(expected.subList(2500, 2510));
+    }
+
+    @Test
+    void shouldResumeFromCheckpoint() throws Exception {
+        // Given: a seeded generator failing once at record 12, with a checkpoint after every record, however small
+        RunContext runContext = runContextFactory.of(Map.of(
+            "flow", Map.of("id", "datagen", "namespace", "io.kestra.tests"),
+            "execution", Map.of("id", IdUtils.create())
+        ));
+        JsonObjectGenerator seeded = personGenerator(42L);
+        AtomicBoolean failed = new AtomicBoolean(false);
+        AtomicInteger produced = new AtomicInteger();
+        DataGenerator<Map<String, Object>> generator = new DataGenerator<>() {
+            @Override
+            public void init(RunContext runContext) throws IllegalVariableEvaluationException {
+                super.init(runContext);
+                seeded.init(runContext);
+            }
+
+            @Override
+            public Map<String, Object> produce(long index) {
+                if (index == 12L && failed.compareAndSet(false, true)) {
+                    throw new IllegalStateException("simulated failure");
+                }
+                produced.incrementAndGet();
+                return seeded.produce(index);
+            }
+
+            @Override
+            public Map<String, Object> produce() {
+                return seeded.produce();
+            }
+
+            @Override
+            public Optional<Object> shape() {
+                return seeded.shape();
+            }
+        };
+        Generate task = Generate.builder()
+            .id(UUID.randomUUID().toString())
+            .type(Generate.class.getName())
+            .store(Property.ofValue(true))
+            .batchSize(Property.ofValue(20L))
+            .checkpointInterval(Property.ofValue(Duration.ZERO))
+            .checkpointMinBytes(Property.ofValue(0L))
+            .generator(generator)
+            .build();
+        Generate sequential = Generate.builder()
+            .id(UUID.randomUUID().toString())
+            .type(Generate.class.getName())
+            .store(Property.ofValue(true))
+            .batchSize(Property.ofValue(20L))
+            .generator(personGenerator(42L))
+            .build();
+
+        // When
+        assertThatThrownBy(() -> task.run(runContext)).isInstanceOf(IllegalStateException.class);
+        produced.set(0);
+        Data output = task.run(runContext);
+
+        // Then: the retry only generates the records after the checkpoint, and the result matches an uninterrupted run
+        assertThat(produced.get()).isEqualTo(8);
+        assertThat(output.getCount()).isEqualTo(20L);
+        assertThat(output.getChunks()).hasSize(20);
+        List<Object> records = new ArrayList<>();
+        for (Data.Chunk chunk : output.getChunks()) {
+            records.addAll(readAll(runContext, chunk.getUri()));
+        }
+        assertThat(records).isEqualTo(readAll(runContext, sequential.run(runContext).getUri()));
+    }
+
+    @Test
+    void shouldNotCloseSmallFilesForCheckpoints() throws Exception {
+        // Given: checkpoints due after every record, with the default minimum file size
+        RunContext runContext = runContextFactory.of(Map.of(
+            "flow", Map.of("id", "datagen", "namespace", "io.kestra.tests"),
+            "execution", Map.of("id", IdUtils.create())
+        ));
+        Generate task = Generate.builder()
+            .id(UUID.randomUUID().toString())
+            .type(Generate.class.getName())
+            .store(Property.ofValue(true))
+            .batchSize(Property.ofValue(20L))
+            .checkpointInterval(Property.ofValue(Duration.ZERO))
+            .generator(personGenerator(42L))
+            .build();
+
+        // When
+        Data output = task.run(runContext);
+
+        // Then
+        assertThat(output.getCount()).isEqualTo(20L);
+        assertThat(output.getChunks()).hasSize(1);
+    }
+
+    @Test
+    void shouldStoreColumnBatchesAsAvro() throws Exception {
+        // Given
+        RunContext runContext = runContextFactory.of();
+        Generate task = Generate.builder()
+            .id(UUID.randomUUID().toString())
+            .type(Generate.class.getName())
+            .store(Property.ofValue(true))
+            .batchSize(Property.ofValue(2500L))
+            .maxRecordsPerFile(Property.ofValue(1000L))
+            .format(Property.ofValue(Format.AVRO))
+            .generator(TypedObjectGenerator.builder()
+                .fields(List.of(
+                    TypedObjectGenerator.Field.builder().name("quantity").type(TypedObjectGenerator.FieldType.INT).min(Property.ofValue((Number) 1)).max(Property.ofValue((Number) 10)).build(),
+                    TypedObjectGenerator.Field.builder().name("createdAt").type(TypedObjectGenerator.FieldType.TIMESTAMP).build()
+                ))
+                .build())
+            .build();
+
+        // When
+        Data output = task.run(runContext);
+
+        // Then
+        assertThat(output.getChunks()).extracting(Data.Chunk::getCount).containsExactly(1000L, 1000L, 500L);
+        List<GenericRecord> records = new ArrayList<>();
+        for (Data.Chunk chunk : output.getChunks()) {
+            try (DataFileStream<GenericRecord> stream = new DataFileStream<>(runContext.storage().getFile(chunk.getUri()), new GenericDatumReader<>())) {
+                stream.forEach(records::add);
+            }
+        }
+        assertThat(records).hasSize(2500);
+        assertThat((Long) records.getFirst().get("quantity")).isBetween(1L, 9L);
+        assertThat(records.getFirst().get("createdAt")).isInstanceOf(Long.class);
+    }
+
+    @Test
+    void shouldRejectUniqueFieldsWhenRecordsAreNotGeneratedInOneSequence() {
+        // Given
+        List<Generate.GenerateBuilder<?, ?>> tasks = List.of(
+            Generate.builder().checkpointInterval(Property.ofValue(Duration.ofSeconds(10))),
+            Generate.builder().offset(Property.ofValue(100L)),
+            Generate.builder().parallelism(Property.ofValue(4))
+        );
+
+        for (Generate.GenerateBuilder<?, ?> builder : tasks) {
+            Generate task = builder
+                .id(UUID.randomUUID().toString())
+                .type(Generate.class.getName())
+                .store(Property.ofValue(true))
+                .batchSize(Property.ofValue(10L))
+                .generator(JsonObjectGenerator.builder()
+                    .value(Map.of("email", "#{internet.emailAddress}"))
+                    .uniqueFields(Property.ofValue(List.of("email")))
+                    .seed(Property.ofValue(1L))
+                    .build())
+                .build();
+
+            // When / Then
+            assertThatThrownBy(() -> task.run(runContextFactory.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("unique fields");
+        }
+    }
+
+    private static JsonObjectGenerator personGenerator() {
+        return personGenerator(null);
+    }
+
+    private static JsonObjectGenerator personGenerator(Long seed) {
+        return JsonObjectGenerator.builder()
+            .value(Map.of(
+                "name", "#{name.fullName}",
+                "email", "#{internet.emailAddress}",
+                "age", 30
+            ))
+            .seed(seed != null ? Property.ofValue(seed) : null)
+            .build();
+    }
+
+    private static TimeSeriesGenerator sensorGenerator() {
+        return TimeSeriesGenerator.builder()
+            .start(Property.ofValue(Instant.parse("2024-01-01T00:00:00Z")))
+            .step(Property.ofValue(Duration.ofSeconds(1)))
+            .generators(Map.of("temperature", NumberGenerator.builder().build()))
+            .seed(Property.ofValue(7L))
+            .build();
+    }
+
+    private static List<Object> readAll(RunContext runContext, URI uri) throws Exception {
+        try (var reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(uri), StandardCharsets.UTF_8))) {
+            return FileSerde.readAll(reader).collectList().block();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.kestra.plugin.datagen.core;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.plugin.datagen.generators.JsonObjectGenerator;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@KestraTest
+class TriggerTest {
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void shouldContinueSeededRecordsOnNextPoll() throws Exception {
+        // Given
+        Trigger trigger = Trigger.builder()
+            .id(UUID.randomUUID().toString())
+            .type(Trigger.class.getName())
+            .generator(JsonObjectGenerator.builder()
+                .value(Map.of("name", "#{name.fullName}", "email", "#{internet.emailAddress}"))
+                .seed(Property.ofValue(42L))
+                .build())
+            .build();
+        Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+
+        // When
+        Optional<Execution> first = trigger.evaluate(context.getKey(), context.getValue());
+        Optional<Execution> second = trigger.evaluate(context.getKey(), context.getValue());
+
+        // Then
+        assertThat(first).isPresent();
+        assertThat(second).isPresent();
+        assertThat(second.get().getTrigger().getVariables().get("value"))
+            .isNotNull()
+            .isNotEqualTo(first.get().getTrigger().getVariables().get("value"));
+    }
+}
@@ -2,12 +2,16 @@ package io.kestra.plugin.datagen.generators;
 
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContextFactory;
+import io.kestra.plugin.datagen.model.RenderScope;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
@@ -50,4 +54,214 @@ class JsonObjectGeneratorTest {
         assertThat(next1.get("email")).isNotEqualTo("#{internet.emailAddress}");
         assertThat(next1.get("age")).isEqualTo(30);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldOnlyEvaluateDynamicValues() throws IllegalVariableEvaluationException {
+        // Given
+        JsonObjectGenerator generator = JsonObjectGenerator
+            .builder()
+            .value(Map.of(
+                "name", "#{name.fullName}",
+                "greeting", "Hello {{ 'world' }}",
+                "country", Map.of("code", "FR", "tags", List.of("a", "b")),
+                "address", Map.of("city", "#{address.city}", "country", "FR")
+            ))
+            .build();
+        generator.init(runContextFactory.of());
+
+        // When
+        Map<String, Object> next1 = generator.produce();
+        Map<String, Object> next2 = generator.produce();
+
+        // Then
+        assertThat(next1.get("greeting")).isEqualTo("Hello world");
+        assertThat(next1.get("country")).isEqualTo(Map.of("code", "FR", "tags", List.of("a", "b")));
+        assertThat(next1.get("country")).isSameAs(next2.get("country"));
+        assertThat(next1.get("address")).isNotSameAs(next2.get("address"));
+        assertThat(((Map<?, ?>) next1.get("address")).get("city")).isNotEqualTo("#{address.city}");
+        assertThat(((Map<?, ?>) next1.get("address")).get("country")).isEqualTo("FR");
+    }
+
+    @Test
+    void shouldRenderPebbleOncePerBatch() throws Exception {
+        // Given
+        JsonObjectGenerator generator = JsonObjectGenerator
+            .builder()
+            .value(Map.of("name", "#{name.fullName}", "ts", "{{ now() }}"))
+            .renderScope(Property.ofValue(RenderScope.BATCH))
+            .build();
+        generator.init(runContextFactory.of());
+
+        // When
+        Map<String, Object> next1 = generator.produce();
+        Thread.sleep(5);
+        Map<String, Object> next2 = generator.produce();
+        generator.startBatch();
+        Thread.sleep(5);
+        Map<String, Object> next3 = generator.produce();
+
+        // Then
+        assertThat(next1.get("ts")).isEqualTo(next2.get("ts"));
+        assertThat(next1.get("name")).isNotEqualTo(next2.get("name"));
+        assertThat(next3.get("ts")).isNotEqualTo(next1.get("ts"));
+    }
+
+    @Test
+    void shouldSampleValuesFromPool() throws IllegalVariableEvaluationException {
+        // Given
+        JsonObjectGenerator generator = JsonObjectGenerator
+            .builder()
+            .value(Map.of(
+                "name", "#{name.fullName}",
+                "city", "#{address.city}",
+                "tag", "hardcoded"
+            ))
+            .poolSize(Property.ofValue(5))
+            .poolSkew(Property.ofValue(1.2))
+            .build();
+        generator.init(runContextFactory.of());
+
+        // When
+        Set<Object> names = new HashSet<>();
+        Set<Object> cities = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            Map<String, Object> next = generator.produce();
+            names.add(next.get("name"));
+            cities.add(next.get("city"));
+            assertThat(next.get("tag")).isEqualTo("hardcoded");
+        }
+
+        // Then
+        assertThat(names.size()).isBetween(2, 5);
+        assertThat(cities.size()).isBetween(2, 5);
+        assertThat(names.iterator().next()).isNotEqualTo("#{name.fullName}");
+    }
+
+    @Test
+    void shouldSampleValuesFromFieldPools() throws IllegalVariableEvaluationException {
+        // Given
+        JsonObjectGenerator generator = JsonObjectGenerator
+            .builder()
+            .value(Map.of(
+                "name", "#{name.fullName}",
+                "address", Map.of("city", "#{address.city}")
+            ))
+            .poolSizes(Property.ofValue(Map.of("address", 3)))
+            .build();
+        generator.init(runContextFactory.of());
+
+        // When
+        Set<Object> names = new HashSet<>();
+        Set<Object> cities = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            Map<String, Object> next = generator.produce();
+            names.add(next.get("name"));
+            cities.add(((Map<?, ?>) next.get("address")).get("city"));
+        }
+
+        // Then: only the nested city is pooled
+        assertThat(cities.size()).isBetween(1, 3);
+        assertThat(names.size()).isGreaterThan(100);
+    }
+
+    @Test
+    void shouldShareValuePoolsBetweenCopies() throws IllegalVariableEvaluationException {
+        // Given: two unseeded copies, as created for parallel workers
+        JsonObjectGenerator generator = JsonObjectGenerator
+            .builder()
+            .value(Map.of("city", "#{address.city}"))
+            .poolSize(Property.ofValue(5))
+            .build();
+        JsonObjectGenerator copy = (JsonObjectGenerator) generator.copy();
+        generator.init(runContextFactory.of());
+        copy.initCopy(runContextFactory.of(), generator);
+
+        // When
+        Set<Object> cities = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            cities.add(generator.produce().get("city"));
+            cities.add(copy.produce().get("city"));
+        }
+
+        // Then
+        assertThat(cities.size()).isBetween(2, 5);
+    }
+
+    @Test
+    void shouldGenerateFieldsWithGenerators() throws IllegalVariableEvaluationException {
+        // Given
+        JsonObjectGenerator generator = JsonObjectGenerator
+            .builder()
+            .value(Map.of("name", "#{name.fullName}"))
+            .generators(Map.of(
+                "productId", NumberGenerator.builder()
+                    .distribution(Property.ofValue(NumberGenerator.Distribution.ZIPF))
+                    .cardinality(Property.ofValue(100))
+                    .build()
+            ))
+            .seed(Property.ofValue(3L))
+            .build();
+        generator.init(runContextFactory.of());
+
+        // When
+        Map<String, Object> first = generator.produce(0L);
+        Map<String, Object> second = generator.produce(1L);
+
+        // Then
+        assertThat(first.get("productId")).isInstanceOf(Long.class);
+        assertThat((Long) first.get("productId")).isBetween(1L, 100L);
+        assertThat(generator.produce(0L)).isEqualTo(first);
+        assertThat(generator.produce(1L)).isEqualTo(second);
+    }
+
+    @Test
+    void shouldForkFieldSeedsWithoutChangingFieldProperties() throws IllegalVariableEvaluationException {
+        // Given
+        NumberGenerator field = NumberGenerator.builder().build();
+        JsonObjectGenerator generator = JsonObjectGenerator
+            .builder()
+            .value(Map.of())
+            .generators(Map.of("value", field))
+            .seed(Property.ofValue(3L))
+            .build();
+        generator.init(runContextFactory.of());
+        Map<String, Object> first = generator.produce(0L);
+
+        // When
+        JsonObjectGenerator reseeded = JsonObjectGenerator
+            .builder()
+            .value(Map.of())
+            .generators(Map.of("value", field))
+            .seed(Property.ofValue(4L))
+            .build();
+        reseeded.init(runContextFactory.of());
+
+        // Then
+        assertThat(field.getSeed()).isNull();
+        assertThat(reseeded.produce(0L)).isNotEqualTo(first);
+    }
+
+    @Test
+    void shouldGenerateUniqueFields() throws IllegalVariableEvaluationException {
+        // Given
+        JsonObjectGenerator generator = JsonObjectGenerator
+            .builder()
+            .value(Map.of(
+                "code", "#{number.numberBetween '0','20000'}",
+                "tag", "hardcoded"
+            ))
+            .uniqueFields(Property.ofValue(List.of("code")))
+            .uniqueCapacity(Property.ofValue(10_000L))
+            .build();
+        generator.init(runContextFactory.of());
+
+        // When
+        Set<Object> codes = new HashSet<>();
+        for (int i = 0; i < 5000; i++) {
+            codes.add(generator.produce().get("code"));
+        }
+
+        // Then
+        assertThat(codes.size()).isEqualTo(5000);
+    }
+}
@@ -0,0 +1,106 @@
+package io.kestra.plugin.datagen.generators;
+
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.plugin.datagen.generators.KeyGenerator.Distribution;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@KestraTest
+class KeyGeneratorTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void shouldSendTrafficToHotKeys() throws IllegalVariableEvaluationException {
+        // Given: 1% of the keys receive 50% of the traffic
+        KeyGenerator generator = KeyGenerator
+            .builder()
+            .cardinality(Property.ofValue(10_000L))
+            .distribution(Property.ofValue(Distribution.HOTSPOT))
+            .hotKeyRatio(Property.ofValue(0.01))
+            .hotTrafficRatio(Property.ofValue(0.5))
+            .build();
+        generator.init(runContextFactory.of());
+
+        // When
+        Map<Long, Integer> counts = counts(generator);
+
+        // Then: the 100 most frequent keys receive about half of the traffic
+        int top = counts.values().stream().sorted((a, b) -> b - a).limit(100).mapToInt(Integer::intValue).sum();
+        assertThat((double) top / SAMPLES).isCloseTo(0.5, within(0.02));
+        assertThat(counts.keySet()).allMatch(key -> key >= 0 && key < 10_000L);
+    }
+
+    @Test
+    void shouldSampleZipfKeysAmongBillions() throws IllegalVariableEvaluationException {
+        // Given
+        KeyGenerator generator = KeyGenerator
+            .builder()
+            .cardinality(Property.ofValue(5_000_000_000L))
+            .distribution(Property.ofValue(Distribution.ZIPF))
+            .exponent(Property.ofValue(1.2))
+            .build();
+        generator.init(runContextFactory.of());
+
+        // When
+        Map<Long, Integer> counts = counts(generator);
+
+        // Then: the most frequent key has a probability of 1 / zeta(1.2) ~ 0.18
+        int max = counts.values().stream().mapToInt(Integer::intValue).max().orElseThrow();
+        assertThat((double) max / SAMPLES).isCloseTo(0.18, within(0.02));
+        assertThat(counts.keySet()).allMatch(key -> key >= 0 && key < 5_000_000_000L);
+    }
+
+    @Test
+    void shouldRotateHotspot() throws IllegalVariableEvaluationException {
+        // Given
+        KeyGenerator generator = KeyGenerator
+            .builder()
+            .cardinality(Property.ofValue(1_000_000L))
+            .distribution(Property.ofValue(Distribution.HOTSPOT))
+            .hotKeyRatio(Property.ofValue(0.00001))
+            .hotTrafficRatio(Property.ofValue(1.0))
+            .rotateEvery(Property.ofValue(100L))
+            .prefix(Property.ofValue("user-"))
+            .build();
+        generator.init(runContextFactory.of());
+
+        // When
+        Set<Object> firstHotspot = keys(generator, 0L);
+        Set<Object> secondHotspot = keys(generator, 100L);
+
+        // Then: all the traffic goes to 10 hot keys, which move after 100 records
+        assertThat(firstHotspot).hasSizeLessThanOrEqualTo(10).allMatch(key -> ((String) key).startsWith("user-"));
+        assertThat(secondHotspot).hasSizeLessThanOrEqualTo(10).doesNotContainAnyElementsOf(firstHotspot);
+    }
+
+    private static Set<Object> keys(KeyGenerator generator, long firstIndex) {
+        Set<Object> keys = new HashSet<>();
+        for (long i = firstIndex; i < firstIndex + 100; i++) {
+            keys.add(generator.produce(i));
+        }
+        return keys;
+    }
+
+    private static Map<Long, Integer> counts(KeyGenerator generator) {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (int i = 0; i < SAMPLES; i++) {
+            counts.merge((Long) generator.produce(), 1, Integer::sum);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,81 @@
+package io.kestra.plugin.datagen.generators;
+
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.plugin.datagen.generators.NumberGenerator.Distribution;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@KestraTest
+class NumberGeneratorTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void shouldSampleContinuousDistributions() throws IllegalVariableEvaluationException {
+        assertThat(average(NumberGenerator.builder().min(Property.ofValue(10.0)).max(Property.ofValue(20.0)).build())).isCloseTo(15.0, within(0.1));
+        assertThat(average(NumberGenerator.builder().distribution(Property.ofValue(Distribution.NORMAL)).mean(Property.ofValue(50.0)).stddev(Property.ofValue(5.0)).build())).isCloseTo(50.0, within(0.2));
+        assertThat(average(NumberGenerator.builder().distribution(Property.ofValue(Distribution.LOG_NORMAL)).mean(Property.ofValue(0.0)).stddev(Property.ofValue(0.5)).build())).isCloseTo(Math.exp(0.125), within(0.02));
+        assertThat(average(NumberGenerator.builder().distribution(Property.ofValue(Distribution.EXPONENTIAL)).mean(Property.ofValue(4.0)).build())).isCloseTo(4.0, within(0.1));
+    }
+
+    @Test
+    void shouldSampleDiscreteDistributions() throws IllegalVariableEvaluationException {
+        assertThat(average(NumberGenerator.builder().distribution(Property.ofValue(Distribution.POISSON)).mean(Property.ofValue(3.0)).build())).isCloseTo(3.0, within(0.05));
+        assertThat(average(NumberGenerator.builder().distribution(Property.ofValue(Distribution.POISSON)).mean(Property.ofValue(200.0)).build())).isCloseTo(200.0, within(0.5));
+
+        // Given
+        NumberGenerator zipf = NumberGenerator.builder()
+            .distribution(Property.ofValue(Distribution.ZIPF))
+            .cardinality(Property.ofValue(1000))
+            .exponent(Property.ofValue(1.0))
+            .build();
+        zipf.init(runContextFactory.of());
+
+        // When
+        long ones = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            Number value = zipf.produce();
+            assertThat(value).isInstanceOf(Long.class);
+            assertThat(value.longValue()).isBetween(1L, 1000L);
+            if (value.longValue() == 1L) {
+                ones++;
+            }
+        }
+
+        // Then: P(1) = 1 / H(1000) ~ 0.1336
+        assertThat((double) ones / SAMPLES).isCloseTo(0.1336, within(0.01));
+    }
+
+    @Test
+    void shouldRejectInvalidLogNormalStddev() {
+        // Given
+        NumberGenerator generator = NumberGenerator.builder()
+            .distribution(Property.ofValue(Distribution.LOG_NORMAL))
+            .stddev(Property.ofValue(-1.0))
+            .build();
+
+        // When / Then
+        assertThatThrownBy(() -> generator.init(runContextFactory.of()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("'stddev'");
+    }
+
+    private double average(NumberGenerator generator) throws IllegalVariableEvaluationException {
+        generator.init(runContextFactory.of());
+        double sum = 0.0;
+        for (int i = 0; i < SAMPLES; i++) {
+            sum += generator.produce().doubleValue();
+        }
+        return sum / SAMPLES;
+    }
+}
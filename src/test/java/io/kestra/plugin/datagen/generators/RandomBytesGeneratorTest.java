@@ -2,11 +2,16 @@ package io.kestra.plugin.datagen.generators;
 
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContextFactory;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.util.zip.GZIPOutputStream;
+
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
 @KestraTest
 class RandomBytesGeneratorTest {
@@ -33,4 +38,104 @@ class RandomBytesGeneratorTest {
 
         assertThat(next1).isNotEqualTo(next2);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldGenerateSameDataForSameSeedAndIndex() throws IllegalVariableEvaluationException {
+        // Given
+        RandomBytesGenerator generator1 = RandomBytesGenerator.builder().size(64).seed(Property.ofValue(7L)).build();
+        RandomBytesGenerator generator2 = RandomBytesGenerator.builder().size(64).seed(Property.ofValue(7L)).build();
+        generator1.init(runContextFactory.of());
+        generator2.init(runContextFactory.of());
+
+        // When
+        byte[] first = generator1.produce(0L);
+        byte[] second = generator1.produce(1L);
+
+        // Then
+        assertThat(generator2.produce(1L)).isEqualTo(second);
+        assertThat(generator2.produce(0L)).isEqualTo(first);
+        assertThat(first).isNotEqualTo(second);
+    }
+
+    @Test
+    void shouldGenerateDataWithEachAlgorithm() throws IllegalVariableEvaluationException {
+        for (RandomBytesGenerator.Algorithm algorithm : RandomBytesGenerator.Algorithm.values()) {
+            // Given
+            RandomBytesGenerator generator = RandomBytesGenerator.builder().size(256).algorithm(Property.ofValue(algorithm)).build();
+            generator.init(runContextFactory.of());
+
+            // When
+            byte[] next1 = generator.produce();
+            byte[] next2 = generator.produce();
+
+            // Then
+            assertThat(next1.length).isEqualTo(256);
+            assertThat(next1).isNotEqualTo(next2);
+        }
+    }
+
+    @Test
+    void shouldRejectSeededSecureAlgorithm() {
+        // Given
+        RandomBytesGenerator generator = RandomBytesGenerator
+            .builder()
+            .size(64)
+            .algorithm(Property.ofValue(RandomBytesGenerator.Algorithm.SECURE))
+            .seed(Property.ofValue(7L))
+            .build();
+
+        // When / Then
+        assertThatThrownBy(() -> generator.init(runContextFactory.of())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldGenerateSameDataForSameSeedWithEachAlgorithm() throws IllegalVariableEvaluationException {
+        for (RandomBytesGenerator.Algorithm algorithm : RandomBytesGenerator.Algorithm.values()) {
+            if (algorithm == RandomBytesGenerator.Algorithm.SECURE) {
+                continue;
+            }
+            // Given
+            RandomBytesGenerator generator = RandomBytesGenerator
+                .builder()
+                .size(64)
+                .algorithm(Property.ofValue(algorithm))
+                .seed(Property.ofValue(7L))
+                .build();
+            generator.init(runContextFactory.of());
+
+            // When
+            byte[] first = generator.produce(0L).clone();
+            byte[] second = generator.produce(1L).clone();
+
+            // Then
+            assertThat(generator.produce(0L)).isEqualTo(first);
+            assertThat(first).isNotEqualTo(second);
+        }
+    }
+
+    @Test
+    void shouldGenerateCompressibleDataInReusedBuffer() throws Exception {
+        // Given
+        RandomBytesGenerator generator = RandomBytesGenerator
+            .builder()
+            .size(1024 * 1024)
+            .compressibility(Property.ofValue(0.75))
+            .reuseBuffer(Property.ofValue(true))
+            .build();
+        generator.init(runContextFactory.of());
+
+        // When
+        byte[] next1 = generator.produce();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(next1);
+        }
+        byte[] next2 = generator.produce();
+
+        // Then
+        assertThat(next2).isSameAs(next1);
+        assertThat(generator.reusesRecords()).isTrue();
+        double ratio = (double) compressed.size() / next1.length;
+        assertThat(ratio).isBetween(0.15, 0.35);
+    }
+}
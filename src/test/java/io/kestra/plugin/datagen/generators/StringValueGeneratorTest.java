@@ -2,10 +2,15 @@ package io.kestra.plugin.datagen.generators;
 
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContextFactory;
+import io.kestra.plugin.datagen.internal.Seeds;
 import jakarta.inject.Inject;
+import net.datafaker.Faker;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
 @KestraTest
@@ -33,4 +38,58 @@ class StringValueGeneratorTest {
         assertThat(next1).isNotEqualTo(next2);
         assertThat(next2).isNotEqualTo("#{name.fullName}");
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldResolveSimpleFakerExpressionsLikeTheExpressionEngine() throws IllegalVariableEvaluationException {
+        // Given
+        StringValueGenerator generator = StringValueGenerator
+            .builder()
+            .value("#{Name.first_name}")
+            .seed(Property.ofValue(7L))
+            .build();
+        generator.init(runContextFactory.of());
+
+        // When
+        String value = generator.produce(3L);
+
+        // Then
+        Faker faker = new Faker(new Random(Seeds.derive(7L, 3L)));
+        assertThat(value).isEqualTo(faker.expression("#{Name.first_name}"));
+    }
+
+    @Test
+    void shouldOnlyRenderValuesContainingPebble() throws IllegalVariableEvaluationException {
+        // Given
+        StringValueGenerator withPebble = StringValueGenerator.builder().value("{{ 'Hello' }} #{name.firstName}").build();
+        StringValueGenerator withoutPebble = StringValueGenerator.builder().value("Hello #{name.firstName}").build();
+        withPebble.init(runContextFactory.of());
+        withoutPebble.init(runContextFactory.of());
+
+        // When
+        String rendered = withPebble.produce();
+        String notRendered = withoutPebble.produce();
+
+        // Then
+        assertThat(rendered).startsWith("Hello ").doesNotContain("#{");
+        assertThat(notRendered).startsWith("Hello ").doesNotContain("#{");
+    }
+
+    @Test
+    void shouldOutputInvalidExpressionAsIsAndCountFallbacks() throws IllegalVariableEvaluationException {
+        // Given
+        StringValueGenerator generator = StringValueGenerator
+            .builder()
+            .value("#{unknownProvider.unknownMethod}")
+            .build();
+        generator.init(runContextFactory.of());
+
+        // When
+        String next1 = generator.produce();
+        String next2 = generator.produce();
+
+        // Then
+        assertThat(next1).isEqualTo("#{unknownProvider.unknownMethod}");
+        assertThat(next2).isEqualTo("#{unknownProvider.unknownMethod}");
+        assertThat(generator.fallbacks()).isEqualTo(2L);
+    }
+}
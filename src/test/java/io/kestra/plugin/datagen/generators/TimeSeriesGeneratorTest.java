@@ -0,0 +1,134 @@
+package io.kestra.plugin.datagen.generators;
+
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.plugin.datagen.model.ColumnBatch;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@KestraTest
+class TimeSeriesGeneratorTest {
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void shouldGenerateInterleavedSeries() throws IllegalVariableEvaluationException {
+        // Given
+        TimeSeriesGenerator generator = TimeSeriesGenerator
+            .builder()
+            .start(Property.ofValue(START))
+            .step(Property.ofValue(Duration.ofSeconds(1)))
+            .series(Property.ofValue(3))
+            .generators(Map.of("value", NumberGenerator.builder().build()))
+            .build();
+        generator.init(runContextFactory.of());
+
+        // When
+        Map<String, Object> first = generator.produce();
+        generator.produce();
+        generator.produce();
+        Map<String, Object> fourth = generator.produce();
+        Map<String, Object> slice = generator.produce(3001L);
+
+        // Then
+        assertThat(first).containsOnlyKeys("timestamp", "series", "value");
+        assertThat(first.get("timestamp")).isEqualTo(START);
+        assertThat(first.get("series")).isEqualTo(0L);
+        assertThat(fourth.get("timestamp")).isEqualTo(START.plusSeconds(1));
+        assertThat(fourth.get("series")).isEqualTo(0L);
+        assertThat(slice.get("timestamp")).isEqualTo(START.plusSeconds(1000));
+        assertThat(slice.get("series")).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldProduceSameRecordsByColumns() throws IllegalVariableEvaluationException {
+        // Given
+        TimeSeriesGenerator generator = TimeSeriesGenerator
+            .builder()
+            .start(Property.ofValue(START))
+            .jitter(Property.ofValue(Duration.ofMillis(200)))
+            .series(Property.ofValue(10))
+            .generators(Map.of(
+                "value", NumberGenerator.builder().build(),
+                "count", NumberGenerator.builder().distribution(Property.ofValue(NumberGenerator.Distribution.POISSON)).build(),
+                "key", KeyGenerator.builder().build()
+            ))
+            .seed(Property.ofValue(5L))
+            .build();
+        generator.init(runContextFactory.of());
+
+        // When
+        ColumnBatch batch = generator.produceBatch(50L, 20);
+
+        // Then
+        assertThat(batch.column(0)).isInstanceOf(long[].class);
+        assertThat(batch.column(batch.indexOf("value"))).isInstanceOf(double[].class);
+        assertThat(batch.column(batch.indexOf("count"))).isInstanceOf(long[].class);
+        assertThat(batch.column(batch.indexOf("key"))).isInstanceOf(long[].class);
+        for (int row = 0; row < batch.size(); row++) {
+            assertThat(batch.row(row)).isEqualTo(generator.produce(50L + row));
+        }
+    }
+
+    @Test
+    void shouldPaceEventsOnVirtualClock() throws IllegalVariableEvaluationException {
+        // Given
+        TimeSeriesGenerator generator = TimeSeriesGenerator
+            .builder()
+            .start(Property.ofValue(START))
+            .step(Property.ofValue(Duration.ofSeconds(1)))
+            .speed(Property.ofValue(50.0))
+            .build();
+        generator.init(runContextFactory.of());
+
+        // When
+        long startNanos = System.nanoTime();
+        for (int i = 0; i <= 10; i++) {
+            generator.produce();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+
+        // Then: 10 seconds of events at 50x
+        assertThat(elapsed).isGreaterThanOrEqualTo(Duration.ofMillis(180));
+        assertThat(generator.supportsColumnBatches()).isFalse();
+    }
+
+    @Test
+    void shouldShareStartBetweenCopies() throws Exception {
+        // Given
+        TimeSeriesGenerator generator = TimeSeriesGenerator.builder().build();
+        generator.init(runContextFactory.of());
+        Thread.sleep(5);
+        TimeSeriesGenerator copy = (TimeSeriesGenerator) generator.copy();
+        copy.init(runContextFactory.of());
+
+        // When
+        copy.shareState(generator);
+
+        // Then
+        assertThat(copy.produce(10L)).isEqualTo(generator.produce(10L));
+    }
+
+    @Test
+    void shouldRequireStartWhenSeeded() {
+        // Given
+        TimeSeriesGenerator generator = TimeSeriesGenerator.builder().seed(Property.ofValue(1L)).build();
+
+        // When / Then
+        assertThatThrownBy(() -> generator.init(runContextFactory.of()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("'start'");
+    }
+}
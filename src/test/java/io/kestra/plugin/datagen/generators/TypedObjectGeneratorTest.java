@@ -0,0 +1,168 @@
+package io.kestra.plugin.datagen.generators;
+
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.plugin.datagen.generators.TypedObjectGenerator.Field;
+import io.kestra.plugin.datagen.generators.TypedObjectGenerator.FieldType;
+import io.kestra.plugin.datagen.model.ColumnBatch;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@KestraTest
+class TypedObjectGeneratorTest {
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void shouldGenerateTypedValues() throws IllegalVariableEvaluationException {
+        // Given
+        TypedObjectGenerator generator = TypedObjectGenerator
+            .builder()
+            .fields(List.of(
+                Field.builder().name("id").type(FieldType.UUID).build(),
+                Field.builder().name("quantity").type(FieldType.INT).min(Property.ofValue((Number) 1)).max(Property.ofValue((Number) 10)).build(),
+                Field.builder().name("views").type(FieldType.LONG).build(),
+                Field.builder().name("score").type(FieldType.DOUBLE).build(),
+                Field.builder().name("price").type(FieldType.DECIMAL).min(Property.ofValue((Number) 1)).max(Property.ofValue((Number) 500)).scale(Property.ofValue(2)).build(),
+                Field.builder().name("paid").type(FieldType.BOOLEAN).build(),
+                Field.builder().name("createdAt").type(FieldType.TIMESTAMP).build(),
+                Field.builder().name("customer").type(FieldType.STRING).expression("#{name.fullName}").build()
+            ))
+            .build();
+        generator.init(runContextFactory.of());
+
+        // When
+        Map<String, Object> record = generator.produce();
+
+        // Then
+        assertThat(record).containsOnlyKeys("id", "quantity", "views", "score", "price", "paid", "createdAt", "customer");
+        assertThat(record.get("id")).isInstanceOf(UUID.class);
+        assertThat(((UUID) record.get("id")).version()).isEqualTo(4);
+        assertThat((Integer) record.get("quantity")).isBetween(1, 9);
+        assertThat(record.get("views")).isInstanceOf(Long.class);
+        assertThat((Double) record.get("score")).isBetween(0.0, 1.0);
+        assertThat(((BigDecimal) record.get("price")).scale()).isEqualTo(2);
+        assertThat(record.get("paid")).isInstanceOf(Boolean.class);
+        assertThat((Instant) record.get("createdAt")).isBefore(Instant.now().plusSeconds(1));
+        assertThat((String) record.get("customer")).isNotBlank().doesNotStartWith("#{");
+        assertThat(generator.shape()).get().isInstanceOf(Map.class);
+    }
+
+    @Test
+    void shouldProduceSameRecordsByColumns() throws IllegalVariableEvaluationException {
+        // Given
+        TypedObjectGenerator generator = TypedObjectGenerator
+            .builder()
+            .fields(List.of(
+                Field.builder().name("quantity").type(FieldType.INT).build(),
+                Field.builder().name("score").type(FieldType.DOUBLE).build(),
+                Field.builder().name("createdAt").type(FieldType.TIMESTAMP).min(Property.ofValue((Number) 1_704_067_200_000L)).max(Property.ofValue((Number) 1_735_689_600_000L)).build(),
+                Field.builder().name("customer").type(FieldType.STRING).expression("#{name.fullName}").build(),
+                Field.builder().name("country").type(FieldType.STRING).expression("#{address.country}").poolSize(Property.ofValue(20)).poolSkew(Property.ofValue(1.0)).build()
+            ))
+            .seed(Property.ofValue(11L))
+            .build();
+        generator.init(runContextFactory.of());
+
+        // When
+        ColumnBatch batch = generator.produceBatch(100L, 10);
+
+        // Then
+        assertThat(batch.size()).isEqualTo(10);
+        assertThat(batch.column(0)).isInstanceOf(int[].class);
+        for (int row = 0; row < batch.size(); row++) {
+            assertThat(batch.row(row)).isEqualTo(generator.produce(100L + row));
+        }
+    }
+
+    @Test
+    void shouldGenerateUniqueValues() throws IllegalVariableEvaluationException {
+        // Given
+        TypedObjectGenerator generator = TypedObjectGenerator
+            .builder()
+            .fields(List.of(
+                Field.builder().name("id").type(FieldType.INT).min(Property.ofValue((Number) 0)).max(Property.ofValue((Number) 100_000)).unique(Property.ofValue(true)).build()
+            ))
+            .uniqueCapacity(Property.ofValue(10_000L))
+            .build();
+        generator.init(runContextFactory.of());
+
+        // When
+        Set<Object> ids = new HashSet<>();
+        for (int i = 0; i < 5000; i++) {
+            ids.add(generator.produce().get("id"));
+        }
+        ColumnBatch batch = generator.produceBatch(0L, 1000);
+        for (int row = 0; row < batch.size(); row++) {
+            ids.add(batch.get(0, row));
+        }
+
+        // Then
+        assertThat(ids).hasSize(6000);
+    }
+
+    @Test
+    void shouldFailWhenUniqueValuesAreExhausted() throws IllegalVariableEvaluationException {
+        // Given
+        TypedObjectGenerator generator = TypedObjectGenerator
+            .builder()
+            .fields(List.of(
+                Field.builder().name("id").type(FieldType.INT).min(Property.ofValue((Number) 0)).max(Property.ofValue((Number) 10)).unique(Property.ofValue(true)).build()
+            ))
+            .build();
+        generator.init(runContextFactory.of());
+        for (int i = 0; i < 10; i++) {
+            generator.produce();
+        }
+
+        // When / Then
+        assertThatThrownBy(generator::produce).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldRequireTimestampRangeWhenSeeded() {
+        // Given
+        TypedObjectGenerator generator = TypedObjectGenerator
+            .builder()
+            .fields(List.of(
+                Field.builder().name("createdAt").type(FieldType.TIMESTAMP).build()
+            ))
+            .seed(Property.ofValue(3L))
+            .build();
+
+        // When / Then
+        assertThatThrownBy(() -> generator.init(runContextFactory.of())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRenderFieldBounds() throws IllegalVariableEvaluationException {
+        // Given
+        TypedObjectGenerator generator = TypedObjectGenerator
+            .builder()
+            .fields(List.of(
+                Field.builder().name("quantity").type(FieldType.INT).min(Property.ofExpression("{{ low }}")).max(Property.ofExpression("{{ high }}")).build()
+            ))
+            .build();
+        generator.init(runContextFactory.of(Map.of("low", 5, "high", 6)));
+
+        // When
+        Map<String, Object> record = generator.produce();
+
+        // Then
+        assertThat(record.get("quantity")).isEqualTo(5);
+    }
+}
@@ -0,0 +1,36 @@
+package io.kestra.plugin.datagen.services;
+
+import io.kestra.plugin.datagen.model.Producer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelGeneratorTest {
+
+    @Test
+    @Timeout(10)
+    void shouldFailWhenProducerThrowsError() {
+        for (boolean preserveOrder : List.of(true, false)) {
+            // Given
+            Producer<Object> failing = () -> {
+                throw new StackOverflowError();
+            };
+            Producer<Object> working = () -> "value";
+
+            // When / Then
+            try (ParallelGenerator generator = new ParallelGenerator(List.of(working, failing), 0L, 10_000L, preserveOrder)) {
+                generator.start();
+                assertThatThrownBy(() -> {
+                    while (generator.next() != null) {
+                        // consumes all blocks
+                    }
+                })
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasCauseInstanceOf(StackOverflowError.class);
+            }
+        }
+    }
+}